@@ -0,0 +1,101 @@
+package dev.projetos.stefano.order.api.cache;
+
+import dev.projetos.stefano.order.api.dtos.response.CategoryResponse;
+import dev.projetos.stefano.order.api.mapper.CategoryMapper;
+import dev.projetos.stefano.order.api.repositories.CategoryRepository;
+import dev.projetos.stefano.order.api.services.events.CategoryChangedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+@Component
+public class CategoryCatalog {
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryMapper categoryMapper;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    public CategoryCatalog(CategoryRepository categoryRepository, CategoryMapper categoryMapper) {
+        this.categoryRepository = categoryRepository;
+        this.categoryMapper = categoryMapper;
+    }
+
+    public Optional<CategoryResponse> findById(Long id) {
+        return Optional.ofNullable(snapshot().byId().get(id));
+    }
+
+    public boolean containsAll(Collection<Long> ids) {
+        return snapshot().byId().keySet().containsAll(ids);
+    }
+
+    public List<CategoryResponse> findAfter(long afterId, int count) {
+        Snapshot current = snapshot();
+
+        int from = Arrays.binarySearch(current.ids(), afterId);
+        from = from >= 0 ? from + 1 : -from - 1;
+
+        return current.sorted().subList(from, Math.min(from + count, current.sorted().size()));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        refresh(event.categoryId());
+    }
+
+    synchronized void refresh(Long id) {
+        Snapshot current = snapshot.get();
+        if (current == null) return;
+
+        Map<Long, CategoryResponse> byId = new HashMap<>(current.byId());
+        categoryRepository.findById(id)
+                .map(categoryMapper::toResponse)
+                .ifPresentOrElse(category -> byId.put(id, category), () -> byId.remove(id));
+
+        snapshot.set(Snapshot.of(byId));
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot.get();
+        return current != null ? current : load();
+    }
+
+    private synchronized Snapshot load() {
+        Snapshot current = snapshot.get();
+        if (current != null) return current;
+
+        Snapshot loaded = Snapshot.of(categoryRepository.findAll(Sort.by("id"))
+                .stream()
+                .map(categoryMapper::toResponse)
+                .collect(Collectors.toMap(CategoryResponse::id, category -> category)));
+
+        snapshot.set(loaded);
+        return loaded;
+    }
+
+    private record Snapshot(Map<Long, CategoryResponse> byId, List<CategoryResponse> sorted, long[] ids) {
+
+        static Snapshot of(Map<Long, CategoryResponse> byId) {
+            List<CategoryResponse> sorted = byId.values()
+                    .stream()
+                    .sorted(Comparator.comparing(CategoryResponse::id))
+                    .toList();
+
+            long[] ids = sorted.stream().mapToLong(CategoryResponse::id).toArray();
+
+            return new Snapshot(Map.copyOf(byId), sorted, ids);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package dev.projetos.stefano.order.api.cache;
+
+import dev.projetos.stefano.order.api.services.events.CategoryChangedEvent;
+import dev.projetos.stefano.order.api.services.events.ProductChangedEvent;
+import dev.projetos.stefano.order.api.services.events.UserChangedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-table change counters bumped after every committed write. The counters live in memory, so each tag is
+ * prefixed with an id drawn at startup to keep tags from a previous run from matching after a restart.
+ * Listeners run after the caches have been refreshed, so a new tag is never paired with a stale body.
+ */
+@Component
+public class ChangeCounters {
+
+    public enum Table { PRODUCTS, CATEGORIES, USERS }
+
+    private final String bootId = Long.toHexString(UUID.randomUUID().getMostSignificantBits());
+    private final AtomicLongArray counters = new AtomicLongArray(Table.values().length);
+
+    public String tag(Table table) {
+        return bootId + "-" + counters.get(table.ordinal());
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        counters.incrementAndGet(Table.PRODUCTS.ordinal());
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        counters.incrementAndGet(Table.CATEGORIES.ordinal());
+        counters.incrementAndGet(Table.PRODUCTS.ordinal());
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        counters.incrementAndGet(Table.USERS.ordinal());
+    }
+}
@@ -0,0 +1,82 @@
+package dev.projetos.stefano.order.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.projetos.stefano.order.api.dtos.response.ProductResponse;
+import dev.projetos.stefano.order.api.services.events.CategoryChangedEvent;
+import dev.projetos.stefano.order.api.services.events.ProductChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+@Component
+public class ProductCache {
+
+    private final Cache<Long, ProductResponse> cache;
+
+    public ProductCache(@Value("${app.cache.products.enabled:true}") boolean enabled,
+                        @Value("${app.cache.products.maximum-size:10000}") long maximumSize,
+                        @Value("${app.cache.products.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.cache = enabled
+                ? Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfterWrite(expireAfterWrite)
+                        .recordStats()
+                        .build()
+                : null;
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    public ProductResponse get(Long id, Function<Long, ProductResponse> loader) {
+        if (cache == null) return loader.apply(id);
+
+        return cache.get(id, loader);
+    }
+
+    public Map<Long, ProductResponse> getAll(Collection<Long> ids, Function<Set<? extends Long>, Map<Long, ProductResponse>> loader) {
+        if (cache == null) return loader.apply(new HashSet<>(ids));
+
+        return cache.getAll(ids, loader);
+    }
+
+    public void invalidate(Long id) {
+        if (cache != null) cache.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        if (cache != null) cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache == null ? CacheStats.empty() : cache.stats();
+    }
+
+    public long size() {
+        return cache == null ? 0 : cache.estimatedSize();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidate(event.productId());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        invalidateAll();
+    }
+}
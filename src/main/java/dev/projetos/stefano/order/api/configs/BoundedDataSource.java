@@ -0,0 +1,144 @@
+package dev.projetos.stefano.order.api.configs;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lets at most {@code maxConcurrency} threads hold a connection at once. The others wait in arrival order for up to
+ * {@code acquireTimeout} before the target pool is even asked, so thousands of virtual threads queue on a cheap
+ * semaphore instead of all timing out inside the pool. A permit is returned when the connection is closed.
+ * <p>
+ * A thread that already holds a connection, like an order leasing hot-product stock in its own transaction, takes
+ * the next one from a separate reserve of {@code nestedConcurrency} permits. Otherwise, with every permit taken by
+ * transactions waiting for a nested connection, they would all wait for each other until the timeout. Size the pool
+ * to the sum of both.
+ */
+public class BoundedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final Semaphore nestedPermits;
+    private final int maxConcurrency;
+    private final int nestedConcurrency;
+    private final Duration acquireTimeout;
+
+    // connections held per thread, to tell a nested request from a first one
+    private final Map<Thread, Integer> holders = new ConcurrentHashMap<>();
+
+    public BoundedDataSource(DataSource target, int maxConcurrency, Duration acquireTimeout) {
+        this(target, maxConcurrency, 0, acquireTimeout);
+    }
+
+    public BoundedDataSource(DataSource target, int maxConcurrency, int nestedConcurrency, Duration acquireTimeout) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.nestedPermits = new Semaphore(nestedConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.nestedConcurrency = nestedConcurrency;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Semaphore semaphore = acquire();
+        try {
+            return bound(super.getConnection(), semaphore);
+        } catch (SQLException | RuntimeException e) {
+            release(semaphore);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Semaphore semaphore = acquire();
+        try {
+            return bound(super.getConnection(username, password), semaphore);
+        } catch (SQLException | RuntimeException e) {
+            release(semaphore);
+            throw e;
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int waitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    public int availableNestedPermits() {
+        return nestedPermits.availablePermits();
+    }
+
+    private Semaphore acquire() throws SQLException {
+        boolean nested = holders.containsKey(Thread.currentThread());
+        Semaphore semaphore = nested ? nestedPermits : permits;
+
+        try {
+            if (!semaphore.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException("Timed out after " + acquireTimeout.toMillis()
+                        + " ms waiting for one of " + (nested ? nestedConcurrency + " nested" : maxConcurrency) + " connections");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+        }
+
+        holders.merge(Thread.currentThread(), 1, Integer::sum);
+        return semaphore;
+    }
+
+    private void release(Semaphore semaphore, Thread holder) {
+        holders.computeIfPresent(holder, (thread, count) -> count == 1 ? null : count - 1);
+        semaphore.release();
+    }
+
+    private void release(Semaphore semaphore) {
+        release(semaphore, Thread.currentThread());
+    }
+
+    private Connection bound(Connection connection, Semaphore semaphore) {
+        Thread holder = Thread.currentThread();
+        AtomicBoolean released = new AtomicBoolean();
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "close" -> {
+                    try {
+                        connection.close();
+                    } finally {
+                        // closing twice is allowed by JDBC and must not hand out an extra permit
+                        if (released.compareAndSet(false, true)) release(semaphore, holder);
+                    }
+                    return null;
+                }
+                default -> {
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                }
+            }
+        });
+    }
+}
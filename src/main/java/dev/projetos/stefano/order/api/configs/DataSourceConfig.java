@@ -0,0 +1,54 @@
+package dev.projetos.stefano.order.api.configs;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Wraps the data source in a {@link BoundedDataSource}, whose free and awaited permits are published as
+ * {@code app.datasource.permits.*}. With {@code spring.threads.virtual.enabled=true} Tomcat, {@code @Scheduled} tasks
+ * and the order intake run on virtual threads, so the request thread count no longer caps how many requests reach
+ * the database and the semaphore does. In both modes it keeps {@code nested-concurrency} connections for
+ * transactions that need a second one, like hot-product stock leases.
+ */
+@Configuration(proxyBeanMethods = false)
+public class DataSourceConfig {
+
+    @Bean
+    static BeanPostProcessor boundedDataSourcePostProcessor(@Value("${app.datasource.max-concurrency:8}") int maxConcurrency,
+                                                            @Value("${app.datasource.nested-concurrency:2}") int nestedConcurrency,
+                                                            @Value("${app.datasource.acquire-timeout:5s}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof BoundedDataSource)) {
+                    return new BoundedDataSource(dataSource, maxConcurrency, nestedConcurrency, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder boundedDataSourceMetrics(DataSource dataSource) {
+        return registry -> {
+            if (!(dataSource instanceof BoundedDataSource bounded)) return;
+
+            Gauge.builder("app.datasource.permits.available", bounded, BoundedDataSource::availablePermits)
+                    .description("Connections a thread can still take without waiting")
+                    .register(registry);
+            Gauge.builder("app.datasource.permits.waiting", bounded, BoundedDataSource::waitingThreads)
+                    .description("Threads waiting for a connection permit")
+                    .register(registry);
+            Gauge.builder("app.datasource.permits.nested.available", bounded, BoundedDataSource::availableNestedPermits)
+                    .description("Connections a thread already holding one can still take without waiting")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package dev.projetos.stefano.order.api.configs;
+
+import dev.projetos.stefano.order.api.services.SalesReportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the sales rollup on startup when the application is launched with {@code --rebuild-sales-rollups}.
+ */
+@Component
+public class SalesRollupRebuildRunner implements ApplicationRunner {
+
+    private static final String OPTION = "rebuild-sales-rollups";
+
+    private static final Logger log = LoggerFactory.getLogger(SalesRollupRebuildRunner.class);
+
+    private final SalesReportService salesReportService;
+
+    public SalesRollupRebuildRunner(SalesReportService salesReportService) {
+        this.salesReportService = salesReportService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPTION)) return;
+
+        long start = System.nanoTime();
+        long orders = salesReportService.rebuild();
+        log.info("Sales rollup rebuilt from {} orders in {} ms", orders, (System.nanoTime() - start) / 1_000_000);
+    }
+}
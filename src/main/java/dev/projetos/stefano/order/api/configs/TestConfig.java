@@ -2,7 +2,9 @@ package dev.projetos.stefano.order.api.configs;
 
 import dev.projetos.stefano.order.api.entities.*;
 import dev.projetos.stefano.order.api.entities.enums.OrderStatus;
+import dev.projetos.stefano.order.api.entities.money.Money;
 import dev.projetos.stefano.order.api.repositories.*;
+import dev.projetos.stefano.order.api.services.SalesReportService;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -19,13 +21,15 @@ public class TestConfig implements CommandLineRunner {
     private final CategoryRepository categoryRepository;
     private final ProductRepository productRepository;
     private final OrderItemRepository orderItemRepository;
+    private final SalesReportService salesReportService;
 
-    public TestConfig(UserRepository userRepository, OrderRepository orderRepository, CategoryRepository categoryRepository, ProductRepository productRepository, OrderItemRepository orderItemRepository) {
+    public TestConfig(UserRepository userRepository, OrderRepository orderRepository, CategoryRepository categoryRepository, ProductRepository productRepository, OrderItemRepository orderItemRepository, SalesReportService salesReportService) {
         this.userRepository = userRepository;
         this.orderRepository = orderRepository;
         this.categoryRepository = categoryRepository;
         this.productRepository = productRepository;
         this.orderItemRepository = orderItemRepository;
+        this.salesReportService = salesReportService;
     }
 
     @Override
@@ -34,11 +38,11 @@ public class TestConfig implements CommandLineRunner {
         Category cat2 = new Category(null, "Books");
         Category cat3 = new Category(null, "Computers");
 
-        Product p1 = new Product(null, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", 90.5, "");
-        Product p2 = new Product(null, "Smart TV", "Nulla eu imperdiet purus. Maecenas ante.", 2190.0, "");
-        Product p3 = new Product(null, "Macbook Pro", "Nam eleifend maximus tortor, at mollis.", 1250.0, "");
-        Product p4 = new Product(null, "PC Gamer", "Donec aliquet odio ac rhoncus cursus.", 1200.0, "");
-        Product p5 = new Product(null, "Rails for Dummies", "Cras fringilla convallis sem vel faucibus.", 100.99, "");
+        Product p1 = new Product(null, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "", 100);
+        Product p2 = new Product(null, "Smart TV", "Nulla eu imperdiet purus. Maecenas ante.", Money.of("2190.0"), "", 20);
+        Product p3 = new Product(null, "Macbook Pro", "Nam eleifend maximus tortor, at mollis.", Money.of("1250.0"), "", 15);
+        Product p4 = new Product(null, "PC Gamer", "Donec aliquet odio ac rhoncus cursus.", Money.of("1200.0"), "", 30);
+        Product p5 = new Product(null, "Rails for Dummies", "Cras fringilla convallis sem vel faucibus.", Money.of("100.99"), "", 200);
 
         categoryRepository.saveAll(List.of(cat1, cat2, cat3));
         productRepository.saveAll(List.of(p1, p2, p3, p4, p5));
@@ -69,9 +73,18 @@ public class TestConfig implements CommandLineRunner {
 
         orderItemRepository.saveAll(List.of(oi1, oi2, oi3, oi4));
 
+        o1.getItems().addAll(List.of(oi1, oi2));
+        o2.getItems().add(oi3);
+        o3.getItems().add(oi4);
+        o1.calculateTotal();
+        o2.calculateTotal();
+        o3.calculateTotal();
+
         Payment pay1 = new Payment(null, Instant.parse("2019-06-20T21:53:07Z"), o1);
         o1.setPayment(pay1);
 
-        orderRepository.save(o1);
+        orderRepository.saveAll(List.of(o1, o2, o3));
+
+        salesReportService.rebuild();
     }
 }
@@ -1,7 +1,14 @@
 package dev.projetos.stefano.order.api.dtos.request;
 
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
 public record OrderItemRequest(
+        @NotNull(message = "Product cannot be empty")
         Long productId,
+
+        @NotNull(message = "Quantity cannot be empty")
+        @Positive(message = "Quantity must be positive")
         Integer quantity
 ) {
 }
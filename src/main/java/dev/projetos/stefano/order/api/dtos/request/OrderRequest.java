@@ -1,9 +1,16 @@
 package dev.projetos.stefano.order.api.dtos.request;
 
-import java.util.Set;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
 
 public record OrderRequest(
+        @NotNull(message = "Client cannot be empty")
         Long clientId,
-        Set<OrderItemRequest> items
+
+        @NotEmpty(message = "At least one item is required")
+        List<@Valid OrderItemRequest> items
 ) {
 }
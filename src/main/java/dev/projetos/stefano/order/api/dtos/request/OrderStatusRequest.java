@@ -0,0 +1,10 @@
+package dev.projetos.stefano.order.api.dtos.request;
+
+import dev.projetos.stefano.order.api.entities.enums.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+
+public record OrderStatusRequest(
+        @NotNull(message = "Status cannot be empty")
+        OrderStatus status
+) {
+}
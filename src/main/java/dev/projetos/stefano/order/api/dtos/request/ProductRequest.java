@@ -1,10 +1,13 @@
 package dev.projetos.stefano.order.api.dtos.request;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 public record ProductRequest(
@@ -17,11 +20,16 @@ public record ProductRequest(
 
         @NotNull(message = "Price cannot be empty")
         @Positive(message = "Price must be positive")
-        Double price,
+        @Digits(integer = 13, fraction = 2, message = "Price must have at most 2 decimal places")
+        BigDecimal price,
 
         String imgUrl,
 
         @NotEmpty(message = "At least one category is required")
-        List<Long> categoriesId
+        List<Long> categoriesId,
+
+        @NotNull(message = "Stock cannot be empty")
+        @PositiveOrZero(message = "Stock cannot be negative")
+        Integer stock
 ) {
 }
@@ -1,9 +1,12 @@
 package dev.projetos.stefano.order.api.dtos.request;
 
 import dev.projetos.stefano.order.api.dtos.validations.AtLeastOneFieldNotNull;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import org.hibernate.validator.constraints.Length;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @AtLeastOneFieldNotNull
@@ -15,10 +18,14 @@ public record ProductUpdateRequest(
         String description,
 
         @Positive(message = "Price must be positive")
-        Double price,
+        @Digits(integer = 13, fraction = 2, message = "Price must have at most 2 decimal places")
+        BigDecimal price,
 
         String imgUrl,
 
-        List<@Positive Long> categoriesId
+        List<@Positive Long> categoriesId,
+
+        @PositiveOrZero(message = "Stock cannot be negative")
+        Integer stock
 ) {
 }
@@ -0,0 +1,16 @@
+package dev.projetos.stefano.order.api.dtos.response;
+
+public record CacheStatsResponse(
+        boolean enabled,
+
+        long size,
+
+        long hitCount,
+
+        long missCount,
+
+        double hitRate,
+
+        long evictionCount
+) {
+}
@@ -1,4 +1,10 @@
 package dev.projetos.stefano.order.api.dtos.response;
 
-public record CategoryResponse(Long id, String name) {
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public record CategoryResponse(Long id, String name, @JsonIgnore Long version) {
+
+    public CategoryResponse(Long id, String name) {
+        this(id, name, null);
+    }
 }
@@ -0,0 +1,20 @@
+package dev.projetos.stefano.order.api.dtos.response;
+
+public record OrderBatchResultResponse(
+        int index,
+
+        String status,
+
+        Long orderId,
+
+        String error
+) {
+
+    public static OrderBatchResultResponse created(int index, Long orderId) {
+        return new OrderBatchResultResponse(index, "CREATED", orderId, null);
+    }
+
+    public static OrderBatchResultResponse failed(int index, String error) {
+        return new OrderBatchResultResponse(index, "FAILED", null, error);
+    }
+}
@@ -0,0 +1,26 @@
+package dev.projetos.stefano.order.api.dtos.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+
+public record OrderPageResponse(
+        List<OrderResponse> content,
+
+        String cursor,
+
+        String next,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Map<String, Long> statusCounts
+) {
+
+    public static OrderPageResponse of(PageResponse<OrderResponse> page, Map<String, Long> statusCounts) {
+        return new OrderPageResponse(page.content(), page.cursor(), page.next(), statusCounts);
+    }
+
+    public OrderPageResponse withNext(String next) {
+        return new OrderPageResponse(content, cursor, next, statusCounts);
+    }
+}
@@ -0,0 +1,28 @@
+package dev.projetos.stefano.order.api.dtos.response;
+
+public record OrderRequestStatusResponse(
+        String trackingId,
+
+        String status,
+
+        Long orderId,
+
+        String error
+) {
+
+    public static OrderRequestStatusResponse queued(String trackingId) {
+        return new OrderRequestStatusResponse(trackingId, "QUEUED", null, null);
+    }
+
+    public static OrderRequestStatusResponse processing(String trackingId) {
+        return new OrderRequestStatusResponse(trackingId, "PROCESSING", null, null);
+    }
+
+    public static OrderRequestStatusResponse of(String trackingId, OrderBatchResultResponse result) {
+        return new OrderRequestStatusResponse(trackingId, result.status(), result.orderId(), result.error());
+    }
+
+    public static OrderRequestStatusResponse failed(String trackingId, String error) {
+        return new OrderRequestStatusResponse(trackingId, "FAILED", null, error);
+    }
+}
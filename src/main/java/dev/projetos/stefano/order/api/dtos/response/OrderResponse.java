@@ -1,8 +1,8 @@
 package dev.projetos.stefano.order.api.dtos.response;
 
-import dev.projetos.stefano.order.api.entities.OrderItem;
+import dev.projetos.stefano.order.api.entities.money.Money;
 
-import java.util.Set;
+import java.util.List;
 
 public record OrderResponse(
         Long id,
@@ -13,6 +13,10 @@ public record OrderResponse(
 
         UserResponse client,
 
-        Set<OrderItem> items
+        List<OrderItemResponse> items,
+
+        Money total,
+
+        PaymentResponse payment
 ) {
 }
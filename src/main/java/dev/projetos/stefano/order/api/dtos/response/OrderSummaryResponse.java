@@ -0,0 +1,22 @@
+package dev.projetos.stefano.order.api.dtos.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.projetos.stefano.order.api.entities.money.Money;
+
+import java.util.List;
+
+public record OrderSummaryResponse(
+        Long id,
+
+        String moment,
+
+        String orderStatus,
+
+        Money total,
+
+        int itemCount,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        List<OrderItemResponse> items
+) {
+}
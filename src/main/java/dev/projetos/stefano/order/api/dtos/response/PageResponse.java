@@ -0,0 +1,33 @@
+package dev.projetos.stefano.order.api.dtos.response;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+public record PageResponse<T>(
+        List<T> content,
+
+        String cursor,
+
+        String next
+) {
+
+    /**
+     * Builds a page from up to {@code limit + 1} rows; the extra row only signals that there is a next page. Rows that
+     * {@code mapper} maps to {@code null}, such as ids deleted between the id query and the detail lookup, are left
+     * out, so a page can hold fewer than {@code limit} items and still carry a cursor to the rows after it.
+     */
+    public static <E, T> PageResponse<T> of(List<E> rows, int limit, Function<E, T> mapper, Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > limit;
+        List<E> page = hasNext ? rows.subList(0, limit) : rows;
+
+        List<T> content = page.stream().map(mapper).filter(Objects::nonNull).toList();
+        String cursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+
+        return new PageResponse<>(content, cursor, null);
+    }
+
+    public PageResponse<T> withNext(String next) {
+        return new PageResponse<>(content, cursor, next);
+    }
+}
@@ -0,0 +1,4 @@
+package dev.projetos.stefano.order.api.dtos.response;
+
+public record PaymentResponse(String moment) {
+}
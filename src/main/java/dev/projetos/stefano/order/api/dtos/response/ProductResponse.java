@@ -1,5 +1,8 @@
 package dev.projetos.stefano.order.api.dtos.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import dev.projetos.stefano.order.api.entities.money.Money;
+
 import java.util.List;
 
 public record ProductResponse(
@@ -9,10 +12,17 @@ public record ProductResponse(
 
         String description,
 
-        Double price,
+        Money price,
 
         String imgUrl,
 
-        List<CategoryResponse> categories
+        List<CategoryResponse> categories,
+
+        @JsonIgnore
+        Long version
 ) {
+
+    public ProductResponse(Long id, String name, String description, Money price, String imgUrl, List<CategoryResponse> categories) {
+        this(id, name, description, price, imgUrl, categories, null);
+    }
 }
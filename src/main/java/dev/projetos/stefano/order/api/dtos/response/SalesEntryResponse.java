@@ -0,0 +1,14 @@
+package dev.projetos.stefano.order.api.dtos.response;
+
+import dev.projetos.stefano.order.api.entities.money.Money;
+
+public record SalesEntryResponse(
+        String group,
+
+        String name,
+
+        long units,
+
+        Money revenue
+) {
+}
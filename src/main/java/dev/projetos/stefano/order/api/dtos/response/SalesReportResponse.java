@@ -0,0 +1,15 @@
+package dev.projetos.stefano.order.api.dtos.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record SalesReportResponse(
+        LocalDate from,
+
+        LocalDate to,
+
+        String groupBy,
+
+        List<SalesEntryResponse> entries
+) {
+}
@@ -1,4 +1,10 @@
 package dev.projetos.stefano.order.api.dtos.response;
 
-public record UserResponse(Long id, String name, String email, String phone) {
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public record UserResponse(Long id, String name, String email, String phone, @JsonIgnore Long version) {
+
+    public UserResponse(Long id, String name, String email, String phone) {
+        this(id, name, email, phone, null);
+    }
 }
@@ -2,6 +2,7 @@ package dev.projetos.stefano.order.api.entities;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import dev.projetos.stefano.order.api.entities.enums.OrderStatus;
+import dev.projetos.stefano.order.api.entities.money.Money;
 import jakarta.persistence.*;
 
 import java.io.Serial;
@@ -12,19 +13,29 @@ import java.util.Objects;
 import java.util.Set;
 
 @Entity
-@Table(name = "tb_order")
+@Table(name = "tb_order", indexes = {
+        @Index(name = "ix_order_client_moment", columnList = "client_id, moment DESC, id DESC"),
+        @Index(name = "ix_order_status_moment", columnList = "order_status, moment DESC, id DESC"),
+        @Index(name = "ix_order_moment", columnList = "moment DESC, id DESC")
+})
 public class Order implements Serializable {
     @Serial
     private static final long serialVersionUID = -3133650042185164945L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_order")
+    @SequenceGenerator(name = "seq_order", sequenceName = "seq_order", allocationSize = 50)
     private Long id;
 
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "GMT")
+    @Column(nullable = false)
     private Instant moment;
 
-    private Integer orderStatus;
+    @Column(nullable = false)
+    private short orderStatus = (short) OrderStatus.WAITING_PAYMENT.getCode();
+
+    @Column(nullable = false)
+    private Money total = Money.ZERO;
 
     @ManyToOne
     @JoinColumn(name = "client_id")
@@ -67,9 +78,7 @@ public class Order implements Serializable {
     }
 
     public void setOrderStatus(OrderStatus orderStatus) {
-        if (orderStatus != null) {
-            this.orderStatus = orderStatus.getCode();
-        }
+        this.orderStatus = (short) Objects.requireNonNull(orderStatus, "orderStatus").getCode();
     }
 
     public User getClient() {
@@ -92,11 +101,16 @@ public class Order implements Serializable {
         this.payment = payment;
     }
 
-    public double getTotal() {
-        return items
-                .stream()
-                .mapToDouble(OrderItem::getSubTotal)
-                .sum();
+    public Money getTotal() {
+        return total;
+    }
+
+    public void calculateTotal() {
+        Money sum = Money.ZERO;
+        for (OrderItem item : items) {
+            sum = sum.plus(item.getSubTotal());
+        }
+        this.total = sum;
     }
 
     @Override
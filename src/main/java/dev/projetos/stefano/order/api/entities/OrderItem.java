@@ -1,7 +1,9 @@
 package dev.projetos.stefano.order.api.entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import dev.projetos.stefano.order.api.entities.money.Money;
 import dev.projetos.stefano.order.api.entities.pk.OrderItemPK;
+import jakarta.persistence.Column;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
@@ -20,14 +22,16 @@ public class OrderItem implements Serializable {
     @EmbeddedId
     private OrderItemPK id = new OrderItemPK();
 
+    @Column(nullable = false)
     private Integer quantity;
 
-    private Double price;
+    @Column(nullable = false)
+    private Money price;
 
     public OrderItem() {
     }
 
-    public OrderItem(Order order, Product product, Integer quantity, Double price) {
+    public OrderItem(Order order, Product product, Integer quantity, Money price) {
         id.setOrder(order);
         id.setProduct(product);
         this.quantity = quantity;
@@ -59,16 +63,16 @@ public class OrderItem implements Serializable {
         this.quantity = quantity;
     }
 
-    public Double getPrice() {
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(Double price) {
+    public void setPrice(Money price) {
         this.price = price;
     }
 
-    public double getSubTotal() {
-        return price * quantity;
+    public Money getSubTotal() {
+        return price.times(quantity);
     }
 
     @Override
@@ -16,7 +16,6 @@ public class Payment implements Serializable {
     private static final long serialVersionUID = -3060091108631148913L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     private Instant moment;
@@ -1,6 +1,7 @@
 package dev.projetos.stefano.order.api.entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import dev.projetos.stefano.order.api.entities.money.Money;
 import jakarta.persistence.*;
 
 import java.io.Serial;
@@ -16,9 +17,13 @@ public class Product implements Serializable {
     private static final long serialVersionUID = -3888870033596533215L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_product")
+    @SequenceGenerator(name = "seq_product", sequenceName = "seq_product", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     @Column(nullable = false)
     private String name;
 
@@ -26,14 +31,18 @@ public class Product implements Serializable {
     private String description;
 
     @Column(nullable = false)
-    private Double price;
+    private Money price;
 
     private String imgUrl;
 
+    @Column(nullable = false, updatable = false)
+    private Integer stock = 0;
+
     @ManyToMany
     @JoinTable(name = "tb_product_category",
             joinColumns = @JoinColumn(name = "product_id"),
-            inverseJoinColumns = @JoinColumn(name = "category_id"))
+            inverseJoinColumns = @JoinColumn(name = "category_id"),
+            indexes = @Index(name = "ix_product_category_category_product", columnList = "category_id, product_id"))
     private Set<Category> categories = new HashSet<>();
 
     @OneToMany(mappedBy = "id.product")
@@ -42,7 +51,7 @@ public class Product implements Serializable {
     public Product() {
     }
 
-    public Product(Long id, String name, String description, Double price, String imgUrl) {
+    public Product(Long id, String name, String description, Money price, String imgUrl) {
         this.id = id;
         this.name = name;
         this.description = description;
@@ -50,6 +59,11 @@ public class Product implements Serializable {
         this.imgUrl = imgUrl;
     }
 
+    public Product(Long id, String name, String description, Money price, String imgUrl, Integer stock) {
+        this(id, name, description, price, imgUrl);
+        this.stock = stock;
+    }
+
     public Long getId() {
         return id;
     }
@@ -58,6 +72,10 @@ public class Product implements Serializable {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public String getName() {
         return name;
     }
@@ -74,11 +92,11 @@ public class Product implements Serializable {
         this.description = description;
     }
 
-    public Double getPrice() {
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(Double price) {
+    public void setPrice(Money price) {
         this.price = price;
     }
 
@@ -90,6 +108,14 @@ public class Product implements Serializable {
         this.imgUrl = imgUrl;
     }
 
+    public Integer getStock() {
+        return stock;
+    }
+
+    public void setStock(Integer stock) {
+        this.stock = stock;
+    }
+
     public Set<Category> getCategories() {
         return categories;
     }
@@ -0,0 +1,65 @@
+package dev.projetos.stefano.order.api.entities;
+
+import dev.projetos.stefano.order.api.entities.money.Money;
+import dev.projetos.stefano.order.api.entities.pk.ProductDailySalesPK;
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Units sold and revenue of one product on one day (UTC), kept up to date as orders are placed or canceled.
+ * Revenue is stored as a plain count of minor units so the rollup can be incremented in SQL.
+ */
+@Entity
+@Table(name = "tb_product_daily_sales")
+public class ProductDailySales implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 8123054927311860412L;
+
+    @EmbeddedId
+    private ProductDailySalesPK id = new ProductDailySalesPK();
+
+    @Column(nullable = false)
+    private long units;
+
+    @Column(nullable = false)
+    private long revenue;
+
+    public ProductDailySales() {
+    }
+
+    public LocalDate getDay() {
+        return id.getDay();
+    }
+
+    public Product getProduct() {
+        return id.getProduct();
+    }
+
+    public long getUnits() {
+        return units;
+    }
+
+    public Money getRevenue() {
+        return Money.ofMinorUnits(revenue);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        ProductDailySales that = (ProductDailySales) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
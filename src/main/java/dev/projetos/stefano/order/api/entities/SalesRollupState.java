@@ -0,0 +1,47 @@
+package dev.projetos.stefano.order.api.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Single row telling whether the last run flushed its in-memory sales deltas before stopping.
+ */
+@Entity
+@Table(name = "tb_sales_rollup_state")
+public class SalesRollupState implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -6402513961277341093L;
+
+    public static final Long ID = 1L;
+
+    @Id
+    private Long id = ID;
+
+    @Column(nullable = false)
+    private boolean cleanShutdown;
+
+    public SalesRollupState() {
+    }
+
+    public SalesRollupState(boolean cleanShutdown) {
+        this.cleanShutdown = cleanShutdown;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public boolean isCleanShutdown() {
+        return cleanShutdown;
+    }
+
+    public void setCleanShutdown(boolean cleanShutdown) {
+        this.cleanShutdown = cleanShutdown;
+    }
+}
@@ -8,6 +8,20 @@ public enum OrderStatus {
     DELIVERED(4),
     CANCELED(5);
 
+    private static final OrderStatus[] BY_CODE;
+
+    static {
+        int maxCode = 0;
+        for (OrderStatus value : values()) {
+            maxCode = Math.max(maxCode, value.code);
+        }
+
+        BY_CODE = new OrderStatus[maxCode + 1];
+        for (OrderStatus value : values()) {
+            BY_CODE[value.code] = value;
+        }
+    }
+
     private final int code;
 
     OrderStatus(int code) {
@@ -19,11 +33,9 @@ public enum OrderStatus {
     }
 
     public static OrderStatus valueOf(int code) {
-        for (OrderStatus value : OrderStatus.values()) {
-            if (value.getCode() == code) {
-                return value;
-            }
+        if (code < 0 || code >= BY_CODE.length || BY_CODE[code] == null) {
+            throw new IllegalStateException("Invalid OrderStatus code");
         }
-        throw new IllegalStateException("Invalid OrderStatus code");
+        return BY_CODE[code];
     }
 }
@@ -0,0 +1,26 @@
+package dev.projetos.stefano.order.api.entities.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Stored as a single BIGINT of minor units; every amount in the database is in Money.DEFAULT_CURRENCY, so any
+// other currency is rejected instead of being read back as BRL.
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(Money money) {
+        if (money == null) return null;
+
+        if (!money.currency().equals(Money.DEFAULT_CURRENCY)) {
+            throw new IllegalArgumentException("Only " + Money.DEFAULT_CURRENCY + " amounts can be stored, got " + money);
+        }
+
+        return money.minorUnits();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(Long minorUnits) {
+        return minorUnits == null ? null : Money.ofMinorUnits(minorUnits);
+    }
+}
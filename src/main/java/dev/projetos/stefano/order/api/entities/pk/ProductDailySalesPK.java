@@ -0,0 +1,53 @@
+package dev.projetos.stefano.order.api.entities.pk;
+
+import dev.projetos.stefano.order.api.entities.Product;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Embeddable
+public class ProductDailySalesPK implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -3197461186034757201L;
+
+    @Column(name = "sales_day")
+    private LocalDate day;
+
+    @ManyToOne
+    @JoinColumn(name = "product_id")
+    private Product product;
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public Product getProduct() {
+        return product;
+    }
+
+    public void setProduct(Product product) {
+        this.product = product;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        ProductDailySalesPK that = (ProductDailySalesPK) o;
+        return Objects.equals(day, that.day) && Objects.equals(product, that.product);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(day, product);
+    }
+}
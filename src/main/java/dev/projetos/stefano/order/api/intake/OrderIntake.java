@@ -0,0 +1,161 @@
+package dev.projetos.stefano.order.api.intake;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.projetos.stefano.order.api.dtos.request.OrderRequest;
+import dev.projetos.stefano.order.api.dtos.response.OrderBatchResultResponse;
+import dev.projetos.stefano.order.api.dtos.response.OrderRequestStatusResponse;
+import dev.projetos.stefano.order.api.metrics.OrderMetrics;
+import dev.projetos.stefano.order.api.services.OrderService;
+import dev.projetos.stefano.order.api.services.exceptions.QueueFullException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accepts orders without waiting for the database. Requests go to a bounded queue and are answered with a tracking
+ * id; a pool of workers takes up to {@code batch-size} requests at a time and places them with
+ * {@link OrderService#insertEach}, one transaction per batch, falling back to {@link OrderService#insert} for each
+ * order when the batch fails. A full queue rejects new requests instead of growing.
+ * <p>
+ * Queue and statuses live in memory: requests still queued when the application stops past
+ * {@code shutdown-timeout} are lost, and statuses are forgotten after {@code retention}. Workers are virtual threads
+ * when {@code spring.threads.virtual.enabled} is set.
+ */
+@Component
+public class OrderIntake {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderIntake.class);
+
+    private static final long POLL_TIMEOUT_MS = 200;
+
+    private final OrderService orderService;
+    private final OrderMetrics orderMetrics;
+    private final BlockingQueue<Submission> queue;
+    private final Cache<String, OrderRequestStatusResponse> statuses;
+    private final int workerCount;
+    private final int batchSize;
+    private final Duration shutdownTimeout;
+    private final ExecutorService workers;
+    private volatile boolean running = true;
+
+    public OrderIntake(OrderService orderService,
+                       OrderMetrics orderMetrics,
+                       @Value("${app.orders.async.queue-capacity:1000}") int queueCapacity,
+                       @Value("${app.orders.async.workers:4}") int workerCount,
+                       @Value("${app.orders.async.batch-size:20}") int batchSize,
+                       @Value("${app.orders.async.retention:1h}") Duration retention,
+                       @Value("${app.orders.async.shutdown-timeout:30s}") Duration shutdownTimeout,
+                       @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.orderService = orderService;
+        this.orderMetrics = orderMetrics;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.statuses = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .build();
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.shutdownTimeout = shutdownTimeout;
+        this.workers = Executors.newFixedThreadPool(workerCount, virtualThreads
+                ? Thread.ofVirtual().name("order-intake-", 0).factory()
+                : Thread.ofPlatform().name("order-intake-", 0).factory());
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::work);
+        }
+    }
+
+    public OrderRequestStatusResponse submit(OrderRequest request) {
+        String trackingId = UUID.randomUUID().toString();
+        OrderRequestStatusResponse queued = OrderRequestStatusResponse.queued(trackingId);
+
+        // registered before the offer, so a worker finishing the order first never gets overwritten by QUEUED
+        statuses.put(trackingId, queued);
+
+        if (!running || !queue.offer(new Submission(trackingId, request))) {
+            statuses.invalidate(trackingId);
+            orderMetrics.recordFailure(OrderMetrics.QUEUE_FULL);
+            throw new QueueFullException("Too many orders waiting to be placed. Try again shortly.");
+        }
+
+        return queued;
+    }
+
+    public Optional<OrderRequestStatusResponse> findStatus(String trackingId) {
+        return Optional.ofNullable(statuses.getIfPresent(trackingId));
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+
+        if (!workers.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            workers.shutdownNow();
+            log.warn("Stopped with {} queued orders not placed", queue.size());
+        }
+    }
+
+    private void work() {
+        List<Submission> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Submission first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<Submission> batch) {
+        batch.forEach(submission -> statuses.put(submission.trackingId(), OrderRequestStatusResponse.processing(submission.trackingId())));
+
+        try {
+            List<OrderBatchResultResponse> results = orderService.insertEach(batch.stream().map(Submission::request).toList());
+
+            for (int i = 0; i < batch.size(); i++) {
+                String trackingId = batch.get(i).trackingId();
+                statuses.put(trackingId, OrderRequestStatusResponse.of(trackingId, results.get(i)));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not place a batch of {} orders", batch.size(), e);
+
+            String error = "Could not place order: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            batch.forEach(submission -> statuses.put(submission.trackingId(), OrderRequestStatusResponse.failed(submission.trackingId(), error)));
+        }
+    }
+
+    private record Submission(String trackingId, OrderRequest request) {
+    }
+}
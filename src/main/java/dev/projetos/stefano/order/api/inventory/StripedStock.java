@@ -0,0 +1,235 @@
+package dev.projetos.stefano.order.api.inventory;
+
+import dev.projetos.stefano.order.api.repositories.ProductRepository;
+import dev.projetos.stefano.order.api.services.exceptions.InsufficientStockException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory stock for hot products. Units are leased from the database in blocks of {@code lease-size} and spread
+ * over several stripes, so concurrent orders for the same product decrement different counters instead of queueing
+ * on one row lock. Unused units go back to the database on shutdown; after a crash they are lost, which can only
+ * undersell, never oversell.
+ * <p>
+ * A lease is a conditional UPDATE in its own short transaction, taken before any lock and published to the stripes as
+ * soon as it commits, so other orders take from the block while the order that leased it is still open. Leases are
+ * never undone: an order that rolls back gives the units it took back to the stripes. Every {@link #discard} starts a
+ * new lease generation, and blocks or give-backs from an earlier generation are dropped.
+ * <p>
+ * The lease transaction needs a second connection while the order holds its own; {@code BoundedDataSource} keeps
+ * {@code app.datasource.nested-concurrency} connections of the pool for it.
+ */
+@Component
+public class StripedStock {
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int stripes;
+    private final int leaseSize;
+    private final Map<Long, Stripes> products = new ConcurrentHashMap<>();
+
+    public StripedStock(ProductRepository productRepository,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${app.inventory.hot-products:}") Set<Long> hotProducts,
+                        @Value("${app.inventory.stripes:8}") int stripes,
+                        @Value("${app.inventory.lease-size:100}") int leaseSize) {
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.stripes = stripes;
+        this.leaseSize = leaseSize;
+
+        hotProducts.forEach(this::track);
+    }
+
+    public void track(Long productId) {
+        products.computeIfAbsent(productId, id -> new Stripes(stripes));
+    }
+
+    public boolean isTracked(Long productId) {
+        return products.containsKey(productId);
+    }
+
+    public long available(Long productId) {
+        Stripes stock = products.get(productId);
+        return stock == null ? 0 : stock.sum();
+    }
+
+    public void reserve(Long productId, int quantity) {
+        Stripes stock = products.get(productId);
+        boolean exhausted = false;
+
+        while (true) {
+            // read before taking or leasing: a take or lease that races a reset may be dropped, which undersells but
+            // never oversells
+            int generation = stock.generation;
+
+            if (stock.tryTake(quantity) || stock.tryTakeFromAll(quantity)) {
+                giveBackOnRollback(stock, generation, quantity);
+                return;
+            }
+
+            if (exhausted) {
+                throw new InsufficientStockException(productId);
+            }
+
+            int leased = lease(productId, Math.max(quantity, leaseSize));
+
+            if (leased == 0) {
+                // one more look at the stripes, in case a concurrent lease was published meanwhile
+                exhausted = true;
+            } else {
+                stock.giveBack(generation, leased);
+            }
+        }
+    }
+
+    // The database row is already reset by the caller's transaction, so the leased units only go once it commits.
+    public void discard(Long productId) {
+        Stripes stock = products.get(productId);
+        if (stock == null) return;
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stock.reset();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stock.reset();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void returnLeases() {
+        products.forEach((productId, stock) -> {
+            long units = stock.reset();
+            if (units > 0) {
+                transactionTemplate.executeWithoutResult(status -> productRepository.incrementStock(productId, (int) units));
+            }
+        });
+    }
+
+    // Takes the full block when the row has that much, otherwise whatever is left.
+    private int lease(Long productId, int units) {
+        return transactionTemplate.execute(status -> {
+            if (productRepository.decrementStock(productId, units) == 1) return units;
+
+            int remaining = productRepository.findStockById(productId).orElse(0);
+            return remaining > 0 && productRepository.decrementStock(productId, remaining) == 1 ? remaining : 0;
+        });
+    }
+
+    private static void giveBackOnRollback(Stripes stock, int generation, int quantity) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) stock.giveBack(generation, quantity);
+            }
+        });
+    }
+
+    private static final class Stripes {
+
+        // one counter per cache line, so stripes updated by different cores do not invalidate each other
+        private static final int PADDING = 8;
+
+        // guards give-backs, resets and takes spanning every stripe; never held across a database call
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AtomicLongArray units;
+        private final int count;
+
+        private volatile int generation;
+
+        Stripes(int count) {
+            this.count = count;
+            this.units = new AtomicLongArray(count * PADDING);
+        }
+
+        boolean tryTake(int quantity) {
+            int start = ThreadLocalRandom.current().nextInt(count);
+
+            for (int i = 0; i < count; i++) {
+                int slot = ((start + i) % count) * PADDING;
+                long current;
+
+                while ((current = units.get(slot)) >= quantity) {
+                    if (units.compareAndSet(slot, current, current - quantity)) return true;
+                }
+            }
+
+            return false;
+        }
+
+        boolean tryTakeFromAll(int quantity) {
+            lock.lock();
+            try {
+                long pooled = drain();
+
+                if (pooled >= quantity) {
+                    add(pooled - quantity);
+                    return true;
+                }
+
+                add(pooled);
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void add(long quantity) {
+            if (quantity > 0) units.addAndGet(ThreadLocalRandom.current().nextInt(count) * PADDING, quantity);
+        }
+
+        void giveBack(int leaseGeneration, long quantity) {
+            if (quantity <= 0) return;
+
+            lock.lock();
+            try {
+                if (generation == leaseGeneration) add(quantity);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long reset() {
+            lock.lock();
+            try {
+                generation++;
+                return drain();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long drain() {
+            long total = 0;
+            for (int i = 0; i < count; i++) total += units.getAndSet(i * PADDING, 0);
+            return total;
+        }
+
+        long sum() {
+            long total = 0;
+            for (int i = 0; i < count; i++) total += units.get(i * PADDING);
+            return total;
+        }
+    }
+}
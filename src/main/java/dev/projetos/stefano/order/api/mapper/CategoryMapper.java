@@ -11,7 +11,8 @@ public class CategoryMapper {
     public CategoryResponse toResponse(Category category) {
         return new CategoryResponse(
                 category.getId(),
-                category.getName()
+                category.getName(),
+                category.getVersion()
         );
     }
 
@@ -1,9 +1,25 @@
 package dev.projetos.stefano.order.api.mapper;
 
+import dev.projetos.stefano.order.api.dtos.response.OrderItemResponse;
 import dev.projetos.stefano.order.api.dtos.response.OrderResponse;
+import dev.projetos.stefano.order.api.dtos.response.OrderSummaryResponse;
+import dev.projetos.stefano.order.api.dtos.response.PaymentResponse;
+import dev.projetos.stefano.order.api.dtos.response.ProductResponse;
+import dev.projetos.stefano.order.api.dtos.response.ProductSummaryResponse;
+import dev.projetos.stefano.order.api.dtos.response.UserResponse;
 import dev.projetos.stefano.order.api.entities.Order;
+import dev.projetos.stefano.order.api.entities.OrderItem;
+import dev.projetos.stefano.order.api.entities.enums.OrderStatus;
+import dev.projetos.stefano.order.api.repositories.projections.OrderItemRow;
+import dev.projetos.stefano.order.api.repositories.projections.OrderRow;
+import dev.projetos.stefano.order.api.repositories.projections.OrderSummaryRow;
+import dev.projetos.stefano.order.api.repositories.projections.PaymentRow;
 import org.springframework.stereotype.Component;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
 @Component
 public class OrderMapper {
 
@@ -14,12 +30,93 @@ public class OrderMapper {
     }
 
     public OrderResponse toResponse(Order order) {
+        List<OrderItemResponse> items = order.getItems()
+                .stream()
+                .sorted(Comparator.comparing(item -> item.getProduct().getId()))
+                .map(this::toItemResponse)
+                .toList();
+
+        return new OrderResponse(
+                order.getId(),
+                order.getMoment().toString(),
+                order.getOrderStatus().toString(),
+                order.getClient() == null ? null : userMapper.toResponse(order.getClient()),
+                items,
+                order.getTotal(),
+                order.getPayment() == null ? null : new PaymentResponse(order.getPayment().getMoment().toString())
+        );
+    }
+
+    public OrderResponse toResponse(Order order, Map<Long, ProductResponse> products) {
+        List<OrderItemResponse> items = order.getItems()
+                .stream()
+                .sorted(Comparator.comparing(item -> item.getProduct().getId()))
+                .map(item -> toItemResponse(item, products.get(item.getProduct().getId())))
+                .toList();
+
         return new OrderResponse(
                 order.getId(),
                 order.getMoment().toString(),
                 order.getOrderStatus().toString(),
                 userMapper.toResponse(order.getClient()),
-                order.getItems()
+                items,
+                order.getTotal(),
+                null
+        );
+    }
+
+    public OrderResponse toResponse(OrderRow order, List<OrderItemRow> itemRows, PaymentRow payment) {
+        List<OrderItemResponse> items = itemRows
+                .stream()
+                .map(this::toItemResponse)
+                .toList();
+
+        return new OrderResponse(
+                order.id(),
+                order.moment().toString(),
+                OrderStatus.valueOf(order.orderStatus()).toString(),
+                order.clientId() == null ? null : new UserResponse(order.clientId(), order.clientName(), order.clientEmail(), order.clientPhone()),
+                items,
+                order.total(),
+                payment == null ? null : new PaymentResponse(payment.moment().toString())
+        );
+    }
+
+    public OrderSummaryResponse toSummaryResponse(OrderSummaryRow order, List<OrderItemRow> itemRows) {
+        return new OrderSummaryResponse(
+                order.id(),
+                order.moment().toString(),
+                OrderStatus.valueOf(order.orderStatus()).toString(),
+                order.total(),
+                order.itemCount(),
+                itemRows == null ? null : itemRows.stream().map(this::toItemResponse).toList()
+        );
+    }
+
+    private OrderItemResponse toItemResponse(OrderItem item) {
+        return new OrderItemResponse(
+                new ProductSummaryResponse(item.getProduct().getId(), item.getProduct().getName(), item.getProduct().getImgUrl()),
+                item.getQuantity(),
+                item.getPrice(),
+                item.getSubTotal()
+        );
+    }
+
+    private OrderItemResponse toItemResponse(OrderItem item, ProductResponse product) {
+        return new OrderItemResponse(
+                new ProductSummaryResponse(product.id(), product.name(), product.imgUrl()),
+                item.getQuantity(),
+                item.getPrice(),
+                item.getSubTotal()
+        );
+    }
+
+    private OrderItemResponse toItemResponse(OrderItemRow row) {
+        return new OrderItemResponse(
+                new ProductSummaryResponse(row.productId(), row.productName(), row.productImgUrl()),
+                row.quantity(),
+                row.price(),
+                row.price().times(row.quantity())
         );
     }
 }
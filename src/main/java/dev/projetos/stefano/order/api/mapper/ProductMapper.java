@@ -4,6 +4,7 @@ import dev.projetos.stefano.order.api.dtos.request.ProductRequest;
 import dev.projetos.stefano.order.api.dtos.request.ProductUpdateRequest;
 import dev.projetos.stefano.order.api.dtos.response.ProductResponse;
 import dev.projetos.stefano.order.api.entities.Product;
+import dev.projetos.stefano.order.api.entities.money.Money;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -25,7 +26,8 @@ public class ProductMapper {
                 product.getCategories()
                         .stream()
                         .map(categoryMapper::toResponse)
-                        .toList()
+                        .toList(),
+                product.getVersion()
         );
     }
 
@@ -33,8 +35,9 @@ public class ProductMapper {
         Product product = new Product();
         product.setName(request.name());
         product.setDescription(request.description());
-        product.setPrice(request.price());
+        product.setPrice(Money.of(request.price()));
         product.setImgUrl(request.imgUrl());
+        product.setStock(request.stock());
 
         return product;
     }
@@ -42,7 +45,7 @@ public class ProductMapper {
     public void updateEntityFromRequest(ProductUpdateRequest request, Product entity) {
         if (request.name() != null) entity.setName(request.name());
         if (request.description() != null) entity.setDescription(request.description());
-        if (request.price() != null) entity.setPrice(request.price());
+        if (request.price() != null) entity.setPrice(Money.of(request.price()));
         if (request.imgUrl() != null) entity.setImgUrl(request.imgUrl());
     }
 }
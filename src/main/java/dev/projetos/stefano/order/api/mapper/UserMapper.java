@@ -14,7 +14,8 @@ public class UserMapper {
                 user.getId(),
                 user.getName(),
                 user.getEmail(),
-                user.getPhone()
+                user.getPhone(),
+                user.getVersion()
         );
     }
 
@@ -0,0 +1,93 @@
+package dev.projetos.stefano.order.api.metrics;
+
+import dev.projetos.stefano.order.api.entities.Order;
+import dev.projetos.stefano.order.api.services.exceptions.InsufficientStockException;
+import dev.projetos.stefano.order.api.services.exceptions.InvalidParameterException;
+import dev.projetos.stefano.order.api.services.exceptions.QueueFullException;
+import dev.projetos.stefano.order.api.services.exceptions.ResourceNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+
+/**
+ * Business metrics of order placement: {@code orders.placed}, {@code orders.lines} (lines per placed order) and
+ * {@code orders.placement.failures} tagged with the reason. Placed orders are counted after their transaction
+ * commits, so a batch chunk that rolls back and is retried order by order is only counted once.
+ */
+@Component
+public class OrderMetrics {
+
+    public static final String INVALID = "invalid";
+    public static final String NOT_FOUND = "not_found";
+    public static final String INSUFFICIENT_STOCK = "insufficient_stock";
+    public static final String CONFLICT = "conflict";
+    public static final String QUEUE_FULL = "queue_full";
+    public static final String ERROR = "error";
+
+    private final MeterRegistry registry;
+    private final Counter placed;
+    private final DistributionSummary lines;
+
+    public OrderMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.placed = Counter.builder("orders.placed")
+                .description("Orders committed")
+                .register(registry);
+        this.lines = DistributionSummary.builder("orders.lines")
+                .description("Lines per committed order")
+                .baseUnit("lines")
+                .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                .register(registry);
+    }
+
+    public void recordPlaced(Collection<Order> orders) {
+        // read now: the batch clears the persistence context before its transaction commits
+        int[] lineCounts = orders.stream().mapToInt(order -> order.getItems().size()).toArray();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            countPlaced(lineCounts);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                countPlaced(lineCounts);
+            }
+        });
+    }
+
+    public void recordFailure(Throwable cause) {
+        recordFailure(reasonOf(cause));
+    }
+
+    public void recordFailure(String reason) {
+        Counter.builder("orders.placement.failures")
+                .description("Orders that could not be placed")
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    static String reasonOf(Throwable cause) {
+        if (cause instanceof InsufficientStockException) return INSUFFICIENT_STOCK;
+        if (cause instanceof ResourceNotFoundException) return NOT_FOUND;
+        if (cause instanceof InvalidParameterException) return INVALID;
+        if (cause instanceof OptimisticLockingFailureException) return CONFLICT;
+        if (cause instanceof QueueFullException) return QUEUE_FULL;
+        return ERROR;
+    }
+
+    private void countPlaced(int[] lineCounts) {
+        placed.increment(lineCounts.length);
+        for (int count : lineCounts) {
+            lines.record(count);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package dev.projetos.stefano.order.api.metrics;
+
+import dev.projetos.stefano.order.api.cache.ProductCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the product cache, which sits in front of Hibernate as the application's second-level cache, under the
+ * same names Micrometer uses for Caffeine caches ({@code cache.gets}, {@code cache.evictions}, {@code cache.size}).
+ */
+@Component
+public class ProductCacheMetrics implements MeterBinder {
+
+    private static final String CACHE = "products";
+
+    private final ProductCache productCache;
+
+    public ProductCacheMetrics(ProductCache productCache) {
+        this.productCache = productCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", productCache, cache -> cache.stats().hitCount())
+                .tag("cache", CACHE)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", productCache, cache -> cache.stats().missCount())
+                .tag("cache", CACHE)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", productCache, cache -> cache.stats().evictionCount())
+                .tag("cache", CACHE)
+                .register(registry);
+        Gauge.builder("cache.size", productCache, ProductCache::size)
+                .tag("cache", CACHE)
+                .register(registry);
+    }
+}
@@ -0,0 +1,70 @@
+package dev.projetos.stefano.order.api.pagination;
+
+import dev.projetos.stefano.order.api.services.exceptions.InvalidParameterException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public final class Cursor {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+    public static final int MAX_OFFSET = 10_000;
+
+    private static final String SEPARATOR = ":";
+
+    private Cursor() {
+    }
+
+    public static String encode(Object... parts) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) sb.append(SEPARATOR);
+            sb.append(parts[i]);
+        }
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+
+            if (parts.length != expectedParts) {
+                throw new InvalidParameterException("Invalid cursor: " + cursor);
+            }
+
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public static long decodeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) return 0L;
+
+        try {
+            return Long.parseLong(decode(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new InvalidParameterException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public static int decodeOffset(String cursor) {
+        long offset = decodeId(cursor);
+
+        if (offset < 0 || offset > MAX_OFFSET) {
+            throw new InvalidParameterException("Invalid cursor: " + cursor);
+        }
+
+        return (int) offset;
+    }
+
+    public static int limit(Integer requested) {
+        if (requested == null) return DEFAULT_LIMIT;
+
+        return Math.max(1, Math.min(requested, MAX_LIMIT));
+    }
+}
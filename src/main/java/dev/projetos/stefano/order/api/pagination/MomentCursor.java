@@ -0,0 +1,29 @@
+package dev.projetos.stefano.order.api.pagination;
+
+import dev.projetos.stefano.order.api.services.exceptions.InvalidParameterException;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+
+/**
+ * Position in a listing ordered by (moment, id). The moment is kept as epoch seconds plus nanos, so the cursor
+ * points at the exact row even when many rows share the same second.
+ */
+public record MomentCursor(Instant moment, long id) {
+
+    public static String encode(Instant moment, Long id) {
+        return Cursor.encode(moment.getEpochSecond(), moment.getNano(), id);
+    }
+
+    public static MomentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        String[] parts = Cursor.decode(cursor, 3);
+
+        try {
+            return new MomentCursor(Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1])), Long.parseLong(parts[2]));
+        } catch (NumberFormatException | DateTimeException e) {
+            throw new InvalidParameterException("Invalid cursor: " + cursor);
+        }
+    }
+}
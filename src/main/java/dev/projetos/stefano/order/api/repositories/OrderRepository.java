@@ -1,17 +1,82 @@
 package dev.projetos.stefano.order.api.repositories;
 
 import dev.projetos.stefano.order.api.entities.Order;
+import dev.projetos.stefano.order.api.repositories.projections.OrderItemRow;
+import dev.projetos.stefano.order.api.repositories.projections.OrderRow;
+import dev.projetos.stefano.order.api.repositories.projections.OrderSummaryRow;
+import dev.projetos.stefano.order.api.repositories.projections.PaymentRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
     @Query("SELECT obj FROM Order obj " +
-            "JOIN FETCH obj.client " +
-            "JOIN FETCH obj.items item " +
-            "JOIN FETCH item.id.product")
-    List<Order> findAllWithDetails();
+            "LEFT JOIN FETCH obj.client " +
+            "LEFT JOIN FETCH obj.payment " +
+            "LEFT JOIN FETCH obj.items item " +
+            "LEFT JOIN FETCH item.id.product " +
+            "WHERE obj.id = :id")
+    Optional<Order> findDetailById(Long id);
+
+    @Query("SELECT obj.id FROM Order obj " +
+            "WHERE obj.id > :after " +
+            "ORDER BY obj.id")
+    List<Long> findIdsAfter(Long after, Limit limit);
+
+    @Query("SELECT new dev.projetos.stefano.order.api.repositories.projections.OrderRow(" +
+            "obj.id, obj.moment, obj.orderStatus, obj.total, client.id, client.name, client.email, client.phone) " +
+            "FROM Order obj " +
+            "LEFT JOIN obj.client client " +
+            "WHERE obj.id IN :ids")
+    List<OrderRow> findRowsByIdIn(Collection<Long> ids);
+
+    @Query("SELECT new dev.projetos.stefano.order.api.repositories.projections.OrderSummaryRow(" +
+            "obj.id, obj.moment, obj.orderStatus, obj.total, SIZE(obj.items)) " +
+            "FROM Order obj " +
+            "WHERE obj.client.id = :clientId " +
+            "ORDER BY obj.moment DESC, obj.id DESC")
+    List<OrderSummaryRow> findSummariesByClientId(Long clientId, Limit limit);
+
+    @Query("SELECT new dev.projetos.stefano.order.api.repositories.projections.OrderSummaryRow(" +
+            "obj.id, obj.moment, obj.orderStatus, obj.total, SIZE(obj.items)) " +
+            "FROM Order obj " +
+            "WHERE obj.client.id = :clientId " +
+            "AND (obj.moment < :moment OR (obj.moment = :moment AND obj.id < :id)) " +
+            "ORDER BY obj.moment DESC, obj.id DESC")
+    List<OrderSummaryRow> findSummariesByClientIdBefore(Long clientId, Instant moment, Long id, Limit limit);
+
+    @Query("SELECT new dev.projetos.stefano.order.api.repositories.projections.OrderItemRow(" +
+            "item.id.order.id, product.id, product.name, product.imgUrl, item.quantity, item.price) " +
+            "FROM OrderItem item " +
+            "JOIN item.id.product product " +
+            "WHERE item.id.order.id IN :orderIds " +
+            "ORDER BY item.id.order.id, product.id")
+    List<OrderItemRow> findItemRowsByOrderIdIn(Collection<Long> orderIds);
+
+    @Query("SELECT new dev.projetos.stefano.order.api.repositories.projections.PaymentRow(payment.id, payment.moment) " +
+            "FROM Payment payment " +
+            "WHERE payment.id IN :orderIds")
+    List<PaymentRow> findPaymentRowsByOrderIdIn(Collection<Long> orderIds);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new dev.projetos.stefano.order.api.repositories.projections.OrderRow(" +
+            "obj.id, obj.moment, obj.orderStatus, obj.total, client.id, client.name, client.email, client.phone) " +
+            "FROM Order obj " +
+            "LEFT JOIN obj.client client " +
+            "ORDER BY obj.id")
+    Stream<OrderRow> streamRows();
 }
@@ -0,0 +1,15 @@
+package dev.projetos.stefano.order.api.repositories;
+
+import dev.projetos.stefano.order.api.pagination.MomentCursor;
+import dev.projetos.stefano.order.api.repositories.projections.FilteredOrders;
+
+import java.time.Instant;
+
+public interface OrderRepositoryCustom {
+
+    /**
+     * Orders matching the given filters, newest first, after {@code cursor}. Null filters are left out of the SQL.
+     * With {@code withCounts}, the same statement also counts the orders of every status in [from, to).
+     */
+    FilteredOrders findFiltered(Short status, Instant from, Instant to, MomentCursor cursor, int limit, boolean withCounts);
+}
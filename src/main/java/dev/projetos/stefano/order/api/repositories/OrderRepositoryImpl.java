@@ -0,0 +1,101 @@
+package dev.projetos.stefano.order.api.repositories;
+
+import dev.projetos.stefano.order.api.pagination.MomentCursor;
+import dev.projetos.stefano.order.api.repositories.projections.FilteredOrders;
+import dev.projetos.stefano.order.api.repositories.projections.OrderKeyRow;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+    private static final Comparator<OrderKeyRow> NEWEST_FIRST = Comparator.comparing(OrderKeyRow::moment)
+            .thenComparing(OrderKeyRow::id)
+            .reversed();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    OrderRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // The SQL only carries the filters that were given: "(? IS NULL OR col = ?)" style predicates would keep the
+    // planner from using the (order_status, moment, id) and (moment, id) indexes.
+    @Override
+    public FilteredOrders findFiltered(Short status, Instant from, Instant to, MomentCursor cursor, int limit, boolean withCounts) {
+        List<Object> args = new ArrayList<>();
+        List<String> range = new ArrayList<>();
+
+        if (from != null) {
+            range.add("moment >= ?");
+            args.add(toTimestamp(from));
+        }
+        if (to != null) {
+            range.add("moment < ?");
+            args.add(toTimestamp(to));
+        }
+
+        List<Object> pageArgs = new ArrayList<>(args);
+        List<String> page = new ArrayList<>(range);
+
+        if (status != null) {
+            page.add("order_status = ?");
+            pageArgs.add(status);
+        }
+        if (cursor != null) {
+            page.add("(moment < ? OR (moment = ? AND id < ?))");
+            pageArgs.add(toTimestamp(cursor.moment()));
+            pageArgs.add(toTimestamp(cursor.moment()));
+            pageArgs.add(cursor.id());
+        }
+        pageArgs.add(limit);
+
+        String pageSql = "SELECT id, moment FROM tb_order" + where(page) + " ORDER BY moment DESC, id DESC LIMIT ?";
+
+        if (!withCounts) {
+            List<OrderKeyRow> rows = jdbcTemplate.query(pageSql, (rs, rowNum) -> toKeyRow(rs), pageArgs.toArray());
+            return new FilteredOrders(rows, null);
+        }
+
+        // one statement: the page rows carry a null status, the count rows a null id
+        String sql = "SELECT p.id, p.moment, CAST(NULL AS SMALLINT), CAST(NULL AS BIGINT) FROM (" + pageSql + ") p " +
+                "UNION ALL " +
+                "SELECT CAST(NULL AS BIGINT), CAST(NULL AS TIMESTAMP WITH TIME ZONE), order_status, COUNT(*) FROM tb_order" + where(range) +
+                " GROUP BY order_status";
+
+        pageArgs.addAll(args);
+
+        List<OrderKeyRow> rows = new ArrayList<>();
+        Map<Short, Long> counts = new HashMap<>();
+
+        jdbcTemplate.query(sql, rs -> {
+            rs.getLong(1);
+            if (rs.wasNull()) counts.put(rs.getShort(3), rs.getLong(4));
+            else rows.add(toKeyRow(rs));
+        }, pageArgs.toArray());
+
+        rows.sort(NEWEST_FIRST);
+        return new FilteredOrders(rows, counts);
+    }
+
+    private static String where(List<String> conditions) {
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static OrderKeyRow toKeyRow(ResultSet rs) throws SQLException {
+        return new OrderKeyRow(rs.getLong(1), rs.getObject(2, OffsetDateTime.class).toInstant());
+    }
+
+    private static OffsetDateTime toTimestamp(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+}
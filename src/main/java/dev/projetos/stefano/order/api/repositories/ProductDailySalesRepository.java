@@ -0,0 +1,42 @@
+package dev.projetos.stefano.order.api.repositories;
+
+import dev.projetos.stefano.order.api.entities.ProductDailySales;
+import dev.projetos.stefano.order.api.entities.pk.ProductDailySalesPK;
+import dev.projetos.stefano.order.api.repositories.projections.DailySalesRow;
+import dev.projetos.stefano.order.api.repositories.projections.SalesRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ProductDailySalesRepository extends JpaRepository<ProductDailySales, ProductDailySalesPK>, ProductDailySalesRepositoryCustom {
+    @Query("SELECT new dev.projetos.stefano.order.api.repositories.projections.SalesRow(" +
+            "product.id, product.name, SUM(obj.units), SUM(obj.revenue)) " +
+            "FROM ProductDailySales obj " +
+            "JOIN obj.id.product product " +
+            "WHERE obj.id.day BETWEEN :from AND :to " +
+            "GROUP BY product.id, product.name " +
+            "ORDER BY product.id")
+    List<SalesRow> sumByProduct(LocalDate from, LocalDate to);
+
+    @Query("SELECT new dev.projetos.stefano.order.api.repositories.projections.SalesRow(" +
+            "category.id, category.name, SUM(obj.units), SUM(obj.revenue)) " +
+            "FROM ProductDailySales obj " +
+            "JOIN obj.id.product product " +
+            "JOIN product.categories category " +
+            "WHERE obj.id.day BETWEEN :from AND :to " +
+            "GROUP BY category.id, category.name " +
+            "ORDER BY category.id")
+    List<SalesRow> sumByCategory(LocalDate from, LocalDate to);
+
+    @Query("SELECT new dev.projetos.stefano.order.api.repositories.projections.DailySalesRow(" +
+            "obj.id.day, SUM(obj.units), SUM(obj.revenue)) " +
+            "FROM ProductDailySales obj " +
+            "WHERE obj.id.day BETWEEN :from AND :to " +
+            "GROUP BY obj.id.day " +
+            "ORDER BY obj.id.day")
+    List<DailySalesRow> sumByDay(LocalDate from, LocalDate to);
+}
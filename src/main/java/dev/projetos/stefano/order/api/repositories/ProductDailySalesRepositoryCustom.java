@@ -0,0 +1,11 @@
+package dev.projetos.stefano.order.api.repositories;
+
+import dev.projetos.stefano.order.api.rollup.SalesDelta;
+import dev.projetos.stefano.order.api.rollup.SalesKey;
+
+import java.util.SortedMap;
+
+public interface ProductDailySalesRepositoryCustom {
+
+    void addAll(SortedMap<SalesKey, SalesDelta> deltas);
+}
@@ -0,0 +1,41 @@
+package dev.projetos.stefano.order.api.repositories;
+
+import dev.projetos.stefano.order.api.rollup.SalesDelta;
+import dev.projetos.stefano.order.api.rollup.SalesKey;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+class ProductDailySalesRepositoryImpl implements ProductDailySalesRepositoryCustom {
+
+    // standard MERGE, supported by H2 and PostgreSQL 15+
+    private static final String UPSERT = "MERGE INTO tb_product_daily_sales t " +
+            "USING (VALUES (CAST(? AS DATE), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT))) " +
+            "AS d (sales_day, product_id, units, revenue) " +
+            "ON t.sales_day = d.sales_day AND t.product_id = d.product_id " +
+            "WHEN MATCHED THEN UPDATE SET units = t.units + d.units, revenue = t.revenue + d.revenue " +
+            "WHEN NOT MATCHED THEN INSERT (sales_day, product_id, units, revenue) " +
+            "VALUES (d.sales_day, d.product_id, d.units, d.revenue)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ProductDailySalesRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void addAll(SortedMap<SalesKey, SalesDelta> deltas) {
+        List<Object[]> rows = deltas.entrySet()
+                .stream()
+                .map(ProductDailySalesRepositoryImpl::toRow)
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPSERT, rows);
+    }
+
+    private static Object[] toRow(Map.Entry<SalesKey, SalesDelta> entry) {
+        return new Object[]{entry.getKey().day(), entry.getKey().productId(), entry.getValue().units(), entry.getValue().revenue()};
+    }
+}
@@ -1,9 +1,67 @@
 package dev.projetos.stefano.order.api.repositories;
 
 import dev.projetos.stefano.order.api.entities.Product;
+import dev.projetos.stefano.order.api.repositories.projections.ProductPopularityRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
+    @Query("SELECT obj.id FROM Product obj " +
+            "WHERE obj.id > :after " +
+            "ORDER BY obj.id")
+    List<Long> findIdsAfter(Long after, Limit limit);
+
+    // reads only the join table, answered from the (category_id, product_id) index
+    @Query(value = "SELECT product_id FROM tb_product_category " +
+            "WHERE category_id = :categoryId AND product_id > :after " +
+            "ORDER BY product_id " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByCategoryAfter(Long categoryId, Long after, int limit);
+
+    @EntityGraph(attributePaths = "categories")
+    List<Product> findByIdIn(Collection<Long> ids);
+
+    @Query("SELECT new dev.projetos.stefano.order.api.repositories.projections.ProductPopularityRow(" +
+            "obj.id, obj.name, COALESCE(SUM(sales.units), 0L)) " +
+            "FROM Product obj " +
+            "LEFT JOIN ProductDailySales sales ON sales.id.product = obj " +
+            "GROUP BY obj.id, obj.name " +
+            "ORDER BY obj.id")
+    List<ProductPopularityRow> findPopularity();
+
+    @Query("SELECT new dev.projetos.stefano.order.api.repositories.projections.ProductPopularityRow(" +
+            "obj.id, obj.name, COALESCE(SUM(sales.units), 0L)) " +
+            "FROM Product obj " +
+            "LEFT JOIN ProductDailySales sales ON sales.id.product = obj " +
+            "WHERE obj.id IN :ids " +
+            "GROUP BY obj.id, obj.name")
+    List<ProductPopularityRow> findPopularityByIdIn(Collection<Long> ids);
+
+    @Query("SELECT obj.version FROM Product obj WHERE obj.id = :id")
+    Optional<Long> findVersionById(Long id);
+
+    @Query("SELECT obj.stock FROM Product obj WHERE obj.id = :id")
+    Optional<Integer> findStockById(Long id);
+
+    @Modifying
+    @Query("UPDATE Product obj SET obj.stock = obj.stock - :quantity " +
+            "WHERE obj.id = :id AND obj.stock >= :quantity")
+    int decrementStock(Long id, int quantity);
+
+    @Modifying
+    @Query("UPDATE Product obj SET obj.stock = obj.stock + :quantity WHERE obj.id = :id")
+    int incrementStock(Long id, int quantity);
+
+    @Modifying
+    @Query("UPDATE Product obj SET obj.stock = :stock WHERE obj.id = :id")
+    int updateStock(Long id, int stock);
 }
@@ -0,0 +1,9 @@
+package dev.projetos.stefano.order.api.repositories;
+
+import dev.projetos.stefano.order.api.entities.SalesRollupState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SalesRollupStateRepository extends JpaRepository<SalesRollupState, Long> {
+}
@@ -1,9 +1,18 @@
 package dev.projetos.stefano.order.api.repositories;
 
 import dev.projetos.stefano.order.api.entities.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("SELECT obj.version FROM User obj WHERE obj.id = :id")
+    Optional<Long> findVersionById(Long id);
 }
@@ -0,0 +1,6 @@
+package dev.projetos.stefano.order.api.repositories.projections;
+
+import java.time.LocalDate;
+
+public record DailySalesRow(LocalDate day, Long units, Long revenue) {
+}
@@ -0,0 +1,7 @@
+package dev.projetos.stefano.order.api.repositories.projections;
+
+import java.util.List;
+import java.util.Map;
+
+public record FilteredOrders(List<OrderKeyRow> rows, Map<Short, Long> countsByStatus) {
+}
@@ -0,0 +1,13 @@
+package dev.projetos.stefano.order.api.repositories.projections;
+
+import dev.projetos.stefano.order.api.entities.money.Money;
+
+public record OrderItemRow(
+        Long orderId,
+        Long productId,
+        String productName,
+        String productImgUrl,
+        Integer quantity,
+        Money price
+) {
+}
@@ -0,0 +1,6 @@
+package dev.projetos.stefano.order.api.repositories.projections;
+
+import java.time.Instant;
+
+public record OrderKeyRow(Long id, Instant moment) {
+}
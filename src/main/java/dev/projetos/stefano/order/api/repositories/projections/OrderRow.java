@@ -0,0 +1,17 @@
+package dev.projetos.stefano.order.api.repositories.projections;
+
+import dev.projetos.stefano.order.api.entities.money.Money;
+
+import java.time.Instant;
+
+public record OrderRow(
+        Long id,
+        Instant moment,
+        Short orderStatus,
+        Money total,
+        Long clientId,
+        String clientName,
+        String clientEmail,
+        String clientPhone
+) {
+}
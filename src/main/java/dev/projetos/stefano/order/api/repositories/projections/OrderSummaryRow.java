@@ -0,0 +1,14 @@
+package dev.projetos.stefano.order.api.repositories.projections;
+
+import dev.projetos.stefano.order.api.entities.money.Money;
+
+import java.time.Instant;
+
+public record OrderSummaryRow(
+        Long id,
+        Instant moment,
+        Short orderStatus,
+        Money total,
+        Integer itemCount
+) {
+}
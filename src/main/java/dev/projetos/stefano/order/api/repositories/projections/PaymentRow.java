@@ -0,0 +1,6 @@
+package dev.projetos.stefano.order.api.repositories.projections;
+
+import java.time.Instant;
+
+public record PaymentRow(Long orderId, Instant moment) {
+}
@@ -0,0 +1,4 @@
+package dev.projetos.stefano.order.api.repositories.projections;
+
+public record ProductPopularityRow(Long id, String name, Long unitsSold) {
+}
@@ -0,0 +1,4 @@
+package dev.projetos.stefano.order.api.repositories.projections;
+
+public record SalesRow(Long groupId, String groupName, Long units, Long revenue) {
+}
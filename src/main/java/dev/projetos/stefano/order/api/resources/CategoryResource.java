@@ -1,17 +1,21 @@
 package dev.projetos.stefano.order.api.resources;
 
+import dev.projetos.stefano.order.api.cache.ChangeCounters;
 import dev.projetos.stefano.order.api.dtos.request.CategoryRequest;
+import dev.projetos.stefano.order.api.dtos.response.PageResponse;
 import dev.projetos.stefano.order.api.dtos.response.CategoryResponse;
+import dev.projetos.stefano.order.api.dtos.response.ProductResponse;
 import dev.projetos.stefano.order.api.services.CategoryService;
+import dev.projetos.stefano.order.api.services.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 @RequestMapping("/categories")
@@ -19,24 +23,53 @@ import java.util.List;
 public class CategoryResource {
 
     private final CategoryService categoryService;
+    private final ProductService productService;
+    private final ChangeCounters changeCounters;
 
-    public CategoryResource(CategoryService categoryService) {
+    public CategoryResource(CategoryService categoryService, ProductService productService, ChangeCounters changeCounters) {
         this.categoryService = categoryService;
+        this.productService = productService;
+        this.changeCounters = changeCounters;
     }
 
-    @Operation(summary = "FindAll Categories", description = "Lists all categories. Returns an empty list if no records are found.")
+    @Operation(summary = "FindAll Categories", description = "Lists categories ordered by ID, one page at a time. Use the 'next' link (or the 'after' cursor) to fetch the following page. Answers 304 when nothing changed since the ETag sent in If-None-Match.")
     @GetMapping
-    public ResponseEntity<List<CategoryResponse>> findAll() {
-        List<CategoryResponse> categories = categoryService.findAll();
+    public ResponseEntity<PageResponse<CategoryResponse>> findAll(@RequestParam(required = false) String after, @RequestParam(required = false) Integer limit, WebRequest webRequest) {
+        String etag = ETags.of(changeCounters.tag(ChangeCounters.Table.CATEGORIES));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
 
-        return ResponseEntity.ok().body(categories);
+        PageResponse<CategoryResponse> categories = categoryService.findAll(after, limit);
+
+        return ResponseEntity.ok().eTag(etag).body(PageLinks.withNextLink(categories));
     }
 
-    @Operation(summary = "FindById Category", description = "Returns a category's data. Throws an exception if the provided ID does not exist.")
+    @Operation(summary = "FindById Category", description = "Returns a category's data with its version as ETag. Answers 304 when the If-None-Match header matches. Throws an exception if the provided ID does not exist.")
     @GetMapping("/{id}")
-    public ResponseEntity<CategoryResponse> findById(@PathVariable Long id) {
+    public ResponseEntity<CategoryResponse> findById(@PathVariable Long id, WebRequest webRequest) {
         CategoryResponse category = categoryService.findById(id);
-        return ResponseEntity.ok().body(category);
+
+        String etag = ETags.of(category.version());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok().eTag(etag).body(category);
+    }
+
+    @Operation(summary = "FindProducts by Category", description = "Lists the products of a category ordered by ID, one page at a time. Use the 'next' link (or the 'after' cursor) to fetch the following page. Answers 304 when no product or category changed since the ETag sent in If-None-Match. Throws an exception if the provided ID does not exist.")
+    @GetMapping("/{id}/products")
+    public ResponseEntity<PageResponse<ProductResponse>> findProducts(@PathVariable Long id, @RequestParam(required = false) String after, @RequestParam(required = false) Integer limit, WebRequest webRequest) {
+        String etag = ETags.of(changeCounters.tag(ChangeCounters.Table.PRODUCTS), changeCounters.tag(ChangeCounters.Table.CATEGORIES));
+
+        // the tag is table-wide, so the page is read first: an unknown category must answer 404 before it can match
+        PageResponse<ProductResponse> products = productService.findByCategory(id, after, limit);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok().eTag(etag).body(PageLinks.withNextLink(products));
     }
 
     @Operation(summary = "Insert Category", description = "Insert a new category and return the data for that new category.")
@@ -0,0 +1,16 @@
+package dev.projetos.stefano.order.api.resources;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Object... parts) {
+        return Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("-", "\"", "\""));
+    }
+}
@@ -1,15 +1,28 @@
 package dev.projetos.stefano.order.api.resources;
 
 import dev.projetos.stefano.order.api.dtos.request.OrderRequest;
+import dev.projetos.stefano.order.api.dtos.request.OrderStatusRequest;
+import dev.projetos.stefano.order.api.dtos.response.OrderBatchResultResponse;
+import dev.projetos.stefano.order.api.dtos.response.OrderPageResponse;
+import dev.projetos.stefano.order.api.dtos.response.OrderRequestStatusResponse;
 import dev.projetos.stefano.order.api.dtos.response.OrderResponse;
+import dev.projetos.stefano.order.api.entities.enums.OrderStatus;
+import dev.projetos.stefano.order.api.intake.OrderIntake;
+import dev.projetos.stefano.order.api.services.OrderBatchService;
 import dev.projetos.stefano.order.api.services.OrderService;
+import dev.projetos.stefano.order.api.services.exceptions.ResourceNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -18,19 +31,43 @@ import java.util.List;
 public class OrderResource {
 
     private final OrderService orderService;
+    private final OrderBatchService orderBatchService;
+    private final OrderIntake orderIntake;
 
-    public OrderResource(OrderService orderService) {
+    public OrderResource(OrderService orderService, OrderBatchService orderBatchService, OrderIntake orderIntake) {
         this.orderService = orderService;
+        this.orderBatchService = orderBatchService;
+        this.orderIntake = orderIntake;
     }
 
-    @Operation(summary = "FindAll Orders", description = "Lists all orders. Returns an empty list if no records are found.")
+    @Operation(summary = "FindAll Orders", description = "Lists orders ordered by ID, one page at a time. With 'status', 'from' or 'to' (moment in [from, to), ISO-8601), lists the matching orders newest first instead; 'counts=true' adds the number of orders of each status in the range. Use the 'next' link (or the 'after' cursor) to fetch the following page.")
     @GetMapping
-    public ResponseEntity<List<OrderResponse>> findAll() {
-        List<OrderResponse> orders = orderService.findAll();
+    public ResponseEntity<OrderPageResponse> findAll(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "false") boolean counts,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        OrderPageResponse orders = status == null && from == null && to == null && !counts
+                ? OrderPageResponse.of(orderService.findAll(after, limit), null)
+                : orderService.findFiltered(status, from, to, after, limit, counts);
+
+        if (orders.cursor() != null) {
+            orders = orders.withNext(PageLinks.nextLink(orders.cursor()));
+        }
 
         return ResponseEntity.ok().body(orders);
     }
 
+    @Operation(summary = "Export Orders", description = "Streams every order as newline-delimited JSON (one order per line), without loading the whole table in memory.")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = orderService::export;
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @Operation(summary = "FindById Order", description = "Returns a order's data. Throws an exception if the provided ID does not exist.")
     @GetMapping("/{id}")
     public ResponseEntity<OrderResponse> findById(@PathVariable Long id) {
@@ -38,9 +75,13 @@ public class OrderResource {
         return ResponseEntity.ok().body(order);
     }
 
-    @Operation(summary = "Insert Order", description = "Insert a new order and return the data for that new order.")
+    @Operation(summary = "Insert Order", description = "Insert a new order and return the data for that new order. With the header 'Prefer: respond-async', validates the order and queues it instead of placing it right away: answers 202 with a tracking id and a Location to follow its progress, or 429 when too many orders are already waiting.")
     @PostMapping
-    public  ResponseEntity<OrderResponse> insert(@RequestBody OrderRequest request) {
+    public ResponseEntity<?> insert(@Valid @RequestBody OrderRequest request, @RequestHeader(name = "Prefer", required = false) List<String> prefer) {
+        if (Preferences.contains(prefer, Preferences.RESPOND_ASYNC)) {
+            return insertAsync(request);
+        }
+
         OrderResponse response = orderService.insert(request);
 
         URI uri = ServletUriComponentsBuilder
@@ -51,4 +92,40 @@ public class OrderResource {
 
         return ResponseEntity.created(uri).body(response);
     }
+
+    private ResponseEntity<OrderRequestStatusResponse> insertAsync(OrderRequest request) {
+        OrderRequestStatusResponse response = orderIntake.submit(request);
+
+        URI uri = ServletUriComponentsBuilder
+                .fromCurrentContextPath()
+                .path("/orders/requests/{trackingId}")
+                .buildAndExpand(response.trackingId())
+                .toUri();
+
+        return ResponseEntity.accepted()
+                .location(uri)
+                .header("Preference-Applied", Preferences.RESPOND_ASYNC)
+                .body(response);
+    }
+
+    @Operation(summary = "FindById Order request", description = "Returns the progress of an order sent with 'Prefer: respond-async': QUEUED, PROCESSING, CREATED (with the order ID) or FAILED (with the reason). Throws an exception if the tracking id is unknown or expired.")
+    @GetMapping("/requests/{trackingId}")
+    public ResponseEntity<OrderRequestStatusResponse> findRequest(@PathVariable String trackingId) {
+        OrderRequestStatusResponse response = orderIntake.findStatus(trackingId)
+                .orElseThrow(() -> new ResourceNotFoundException(trackingId));
+
+        return ResponseEntity.ok().body(response);
+    }
+
+    @Operation(summary = "Insert Orders in batch", description = "Inserts many orders at once. Each order is validated and persisted independently, so one bad order does not reject the others. Returns the outcome of every order in request order.")
+    @PostMapping("/batch")
+    public ResponseEntity<List<OrderBatchResultResponse>> insertAll(@RequestBody List<OrderRequest> requests) {
+        return ResponseEntity.ok().body(orderBatchService.insertAll(requests));
+    }
+
+    @Operation(summary = "Update Order status", description = "Changes the status of an order. Canceling an order removes it from the sales reports; a canceled order cannot change status again.")
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<OrderResponse> updateStatus(@PathVariable Long id, @Valid @RequestBody OrderStatusRequest request) {
+        return ResponseEntity.ok().body(orderService.updateStatus(id, request.status()));
+    }
 }
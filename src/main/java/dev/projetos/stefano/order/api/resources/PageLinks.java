@@ -0,0 +1,23 @@
+package dev.projetos.stefano.order.api.resources;
+
+import dev.projetos.stefano.order.api.dtos.response.PageResponse;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+final class PageLinks {
+
+    private PageLinks() {
+    }
+
+    static <T> PageResponse<T> withNextLink(PageResponse<T> page) {
+        if (page.cursor() == null) return page;
+
+        return page.withNext(nextLink(page.cursor()));
+    }
+
+    static String nextLink(String cursor) {
+        return ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .replaceQueryParam("after", cursor)
+                .toUriString();
+    }
+}
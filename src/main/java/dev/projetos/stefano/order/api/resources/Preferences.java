@@ -0,0 +1,28 @@
+package dev.projetos.stefano.order.api.resources;
+
+import java.util.List;
+
+/**
+ * Reads the {@code Prefer} request header (RFC 7240): comma-separated preferences, each optionally followed by a
+ * value and {@code ;}-separated parameters, as in {@code Prefer: respond-async, wait=5}.
+ */
+final class Preferences {
+
+    static final String RESPOND_ASYNC = "respond-async";
+
+    private Preferences() {
+    }
+
+    static boolean contains(List<String> headers, String preference) {
+        if (headers == null) return false;
+
+        for (String header : headers) {
+            for (String token : header.split(",")) {
+                String name = token.split("[;=]", 2)[0].strip();
+                if (name.equalsIgnoreCase(preference)) return true;
+            }
+        }
+
+        return false;
+    }
+}
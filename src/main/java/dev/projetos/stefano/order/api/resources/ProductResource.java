@@ -1,14 +1,23 @@
 package dev.projetos.stefano.order.api.resources;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.projetos.stefano.order.api.cache.ChangeCounters;
+import dev.projetos.stefano.order.api.cache.ProductCache;
 import dev.projetos.stefano.order.api.dtos.request.ProductRequest;
 import dev.projetos.stefano.order.api.dtos.request.ProductUpdateRequest;
+import dev.projetos.stefano.order.api.dtos.response.CacheStatsResponse;
+import dev.projetos.stefano.order.api.dtos.response.PageResponse;
 import dev.projetos.stefano.order.api.dtos.response.ProductResponse;
+import dev.projetos.stefano.order.api.dtos.response.ProductSuggestionResponse;
+import dev.projetos.stefano.order.api.dtos.response.StockResponse;
+import dev.projetos.stefano.order.api.services.InventoryService;
 import dev.projetos.stefano.order.api.services.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -20,24 +29,75 @@ import java.util.List;
 public class ProductResource {
 
     private final ProductService productService;
+    private final ProductCache productCache;
+    private final ChangeCounters changeCounters;
+    private final InventoryService inventoryService;
 
-    public ProductResource(ProductService productService) {
+    public ProductResource(ProductService productService, ProductCache productCache, ChangeCounters changeCounters, InventoryService inventoryService) {
         this.productService = productService;
+        this.productCache = productCache;
+        this.changeCounters = changeCounters;
+        this.inventoryService = inventoryService;
     }
 
-    @Operation(summary = "FindAll Products", description = "Lists all products. Returns an empty list if no records are found.")
+    @Operation(summary = "FindAll Products", description = "Lists products ordered by ID, one page at a time. Use the 'next' link (or the 'after' cursor) to fetch the following page. Answers 304 when nothing changed since the ETag sent in If-None-Match.")
     @GetMapping
-    public ResponseEntity<List<ProductResponse>> findAll() {
-        List<ProductResponse> products = productService.findAll();
+    public ResponseEntity<PageResponse<ProductResponse>> findAll(@RequestParam(required = false) String after, @RequestParam(required = false) Integer limit, WebRequest webRequest) {
+        String etag = ETags.of(changeCounters.tag(ChangeCounters.Table.PRODUCTS));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
 
-        return ResponseEntity.ok().body(products);
+        PageResponse<ProductResponse> products = productService.findAll(after, limit);
+
+        return ResponseEntity.ok().eTag(etag).body(PageLinks.withNextLink(products));
+    }
+
+    @Operation(summary = "Search Products", description = "Full-text search over product names and descriptions, ignoring case and accents. Returns products containing every word of 'q', most relevant first, one page at a time.")
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<ProductResponse>> search(@RequestParam String q, @RequestParam(required = false) String after, @RequestParam(required = false) Integer limit) {
+        PageResponse<ProductResponse> products = productService.search(q, after, limit);
+
+        return ResponseEntity.ok().body(PageLinks.withNextLink(products));
+    }
+
+    @Operation(summary = "Suggest Products", description = "Autocomplete: returns products with a word in the name starting with 'prefix', ignoring case and accents, best sellers first.")
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ProductSuggestionResponse>> suggest(@RequestParam String prefix, @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok().body(productService.suggest(prefix, limit));
+    }
+
+    @Operation(summary = "Product Cache Stats", description = "Returns hit, miss and eviction statistics of the in-memory product cache.")
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsResponse> cacheStats() {
+        CacheStats stats = productCache.stats();
+
+        return ResponseEntity.ok().body(new CacheStatsResponse(
+                productCache.isEnabled(),
+                productCache.size(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount()));
     }
 
-    @Operation(summary = "FindById Product", description = "Returns a product's data. Throws an exception if the provided ID does not exist.")
+    @Operation(summary = "FindById Product", description = "Returns a product's data with its version as ETag. Answers 304 when the If-None-Match header matches. Throws an exception if the provided ID does not exist.")
     @GetMapping("/{id}")
-    public ResponseEntity<ProductResponse> findById(@PathVariable Long id) {
-        ProductResponse product = productService.findById(id);
-        return ResponseEntity.ok().body(product);
+    public ResponseEntity<ProductResponse> findById(@PathVariable Long id, WebRequest webRequest) {
+        String categoriesTag = changeCounters.tag(ChangeCounters.Table.CATEGORIES);
+        long version = productService.findVersionById(id);
+        if (webRequest.checkNotModified(ETags.of(version, categoriesTag))) {
+            return null;
+        }
+
+        ProductResponse product = productService.findById(id, version);
+        return ResponseEntity.ok().eTag(ETags.of(product.version(), categoriesTag)).body(product);
+    }
+
+    @Operation(summary = "Product Stock", description = "Returns the units of a product still available for sale. Throws an exception if the provided ID does not exist.")
+    @GetMapping("/{id}/stock")
+    public ResponseEntity<StockResponse> findStock(@PathVariable Long id) {
+        return ResponseEntity.ok().body(new StockResponse(id, inventoryService.findAvailable(id)));
     }
 
     @Operation(summary = "Insert Product", description = "Insert a new product and return the data for that new product.")
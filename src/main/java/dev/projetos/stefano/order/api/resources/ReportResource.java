@@ -0,0 +1,35 @@
+package dev.projetos.stefano.order.api.resources;
+
+import dev.projetos.stefano.order.api.dtos.response.SalesReportResponse;
+import dev.projetos.stefano.order.api.services.SalesReportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/reports")
+@Tag(name = "Reports", description = "Endpoint for sales reports")
+public class ReportResource {
+
+    private final SalesReportService salesReportService;
+
+    public ReportResource(SalesReportService salesReportService) {
+        this.salesReportService = salesReportService;
+    }
+
+    @Operation(summary = "Sales Report", description = "Units sold and revenue between two days (inclusive, UTC), grouped by product, category or day. Canceled orders are not counted.")
+    @GetMapping("/sales")
+    public ResponseEntity<SalesReportResponse> sales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "product") String groupBy) {
+        return ResponseEntity.ok().body(salesReportService.findSales(from, to, groupBy));
+    }
+}
@@ -1,18 +1,22 @@
 package dev.projetos.stefano.order.api.resources;
 
+import dev.projetos.stefano.order.api.cache.ChangeCounters;
 import dev.projetos.stefano.order.api.dtos.request.UserRequest;
 import dev.projetos.stefano.order.api.dtos.request.UserUpdateRequest;
+import dev.projetos.stefano.order.api.dtos.response.OrderSummaryResponse;
+import dev.projetos.stefano.order.api.dtos.response.PageResponse;
 import dev.projetos.stefano.order.api.dtos.response.UserResponse;
+import dev.projetos.stefano.order.api.services.OrderService;
 import dev.projetos.stefano.order.api.services.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 @RequestMapping("/users")
@@ -20,24 +24,45 @@ import java.util.List;
 public class UserResource {
 
     private final UserService userService;
+    private final OrderService orderService;
+    private final ChangeCounters changeCounters;
 
-    public UserResource(UserService userService) {
+    public UserResource(UserService userService, OrderService orderService, ChangeCounters changeCounters) {
         this.userService = userService;
+        this.orderService = orderService;
+        this.changeCounters = changeCounters;
     }
 
-    @Operation(summary = "FindAll Users", description = "Lists all users. Returns an empty list if no records are found.")
+    @Operation(summary = "FindAll Users", description = "Lists users ordered by ID, one page at a time. Use the 'next' link (or the 'after' cursor) to fetch the following page. Answers 304 when nothing changed since the ETag sent in If-None-Match.")
     @GetMapping
-    public ResponseEntity<List<UserResponse>> findAll() {
-        List<UserResponse> users = userService.findAll();
+    public ResponseEntity<PageResponse<UserResponse>> findAll(@RequestParam(required = false) String after, @RequestParam(required = false) Integer limit, WebRequest webRequest) {
+        String etag = ETags.of(changeCounters.tag(ChangeCounters.Table.USERS));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
 
-        return ResponseEntity.ok().body(users);
+        PageResponse<UserResponse> users = userService.findAll(after, limit);
+
+        return ResponseEntity.ok().eTag(etag).body(PageLinks.withNextLink(users));
     }
 
-    @Operation(summary = "FindById User", description = "Returns a user's data. Throws an exception if the provided ID does not exist.")
+    @Operation(summary = "FindById User", description = "Returns a user's data with its version as ETag. Answers 304 when the If-None-Match header matches. Throws an exception if the provided ID does not exist.")
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponse> findById(@PathVariable Long id) {
+    public ResponseEntity<UserResponse> findById(@PathVariable Long id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(ETags.of(userService.findVersionById(id)))) {
+            return null;
+        }
+
         UserResponse user = userService.findById(id);
-        return ResponseEntity.ok().body(user);
+        return ResponseEntity.ok().eTag(ETags.of(user.version())).body(user);
+    }
+
+    @Operation(summary = "FindOrders by User", description = "Lists a user's orders, newest first, one page at a time, as summaries with the item count. Set 'items=true' to include the line items. Use the 'next' link (or the 'after' cursor) to fetch the following page. Throws an exception if the provided ID does not exist.")
+    @GetMapping("/{id}/orders")
+    public ResponseEntity<PageResponse<OrderSummaryResponse>> findOrders(@PathVariable Long id, @RequestParam(required = false) String after, @RequestParam(required = false) Integer limit, @RequestParam(defaultValue = "false") boolean items) {
+        PageResponse<OrderSummaryResponse> orders = orderService.findByClient(id, after, limit, items);
+
+        return ResponseEntity.ok().body(PageLinks.withNextLink(orders));
     }
 
     @Operation(summary = "Insert User", description = "Insert a new user and return the data for that new user.")
@@ -1,7 +1,12 @@
 package dev.projetos.stefano.order.api.resources.exceptions;
 
+import dev.projetos.stefano.order.api.services.exceptions.InsufficientStockException;
+import dev.projetos.stefano.order.api.services.exceptions.InvalidParameterException;
+import dev.projetos.stefano.order.api.services.exceptions.QueueFullException;
 import dev.projetos.stefano.order.api.services.exceptions.ResourceNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -29,6 +34,22 @@ public class ResourceExceptionHandler {
         return ResponseEntity.status(status).body(err);
     }
 
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<StandardError> handleInsufficientStock(InsufficientStockException e, HttpServletRequest request) {
+        var error = "Insufficient stock.";
+        var status = HttpStatus.CONFLICT;
+        var err = new StandardError(Instant.now(), status.value(), error, e.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(status).body(err);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<StandardError> handleOptimisticLocking(OptimisticLockingFailureException e, HttpServletRequest request) {
+        var error = "Concurrent modification.";
+        var status = HttpStatus.CONFLICT;
+        var err = new StandardError(Instant.now(), status.value(), error, "The resource was changed by another request. Reload it and try again.", request.getRequestURI());
+        return ResponseEntity.status(status).body(err);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<StandardError> handleMethodArgumentNotValid(MethodArgumentNotValidException e, HttpServletRequest request) {
         var error = "Invalid data.";
@@ -37,4 +58,20 @@ public class ResourceExceptionHandler {
         return ResponseEntity.status(status).body(err);
     }
 
+    @ExceptionHandler(InvalidParameterException.class)
+    public ResponseEntity<StandardError> handleInvalidParameter(InvalidParameterException e, HttpServletRequest request) {
+        var error = "Invalid parameter.";
+        var status = HttpStatus.BAD_REQUEST;
+        var err = new StandardError(Instant.now(), status.value(), error, e.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(status).body(err);
+    }
+
+    @ExceptionHandler(QueueFullException.class)
+    public ResponseEntity<StandardError> handleQueueFull(QueueFullException e, HttpServletRequest request) {
+        var error = "Too many requests.";
+        var status = HttpStatus.TOO_MANY_REQUESTS;
+        var err = new StandardError(Instant.now(), status.value(), error, e.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(status).header(HttpHeaders.RETRY_AFTER, "1").body(err);
+    }
+
 }
@@ -0,0 +1,84 @@
+package dev.projetos.stefano.order.api.rollup;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Sales deltas waiting to be written to the rollup table. Each (day, product) has its own pair of {@link LongAdder}s,
+ * so orders for the same popular product add to different cells instead of contending for one row.
+ * <p>
+ * Writers add under the read lock and {@link #drain()} swaps in an empty generation under the write lock, so no
+ * writer is still adding to a drained generation and every delta ends up in exactly one drain.
+ */
+@Component
+public class SalesCounters {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Generation current = new Generation();
+
+    public void add(SalesKey key, SalesDelta delta) {
+        lock.readLock().lock();
+        try {
+            current.add(key, delta);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void addAll(Map<SalesKey, SalesDelta> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    public SortedMap<SalesKey, SalesDelta> pending() {
+        return current.totals();
+    }
+
+    public SortedMap<SalesKey, SalesDelta> drain() {
+        Generation drained;
+
+        lock.writeLock().lock();
+        try {
+            drained = current;
+            current = new Generation();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        return drained.totals();
+    }
+
+    private static final class Generation {
+
+        private final Map<SalesKey, Counter> counters = new ConcurrentHashMap<>();
+
+        void add(SalesKey key, SalesDelta delta) {
+            Counter counter = counters.computeIfAbsent(key, k -> new Counter());
+            counter.units.add(delta.units());
+            counter.revenue.add(delta.revenue());
+        }
+
+        SortedMap<SalesKey, SalesDelta> totals() {
+            SortedMap<SalesKey, SalesDelta> totals = new TreeMap<>();
+
+            counters.forEach((key, counter) -> {
+                SalesDelta delta = new SalesDelta(counter.units.sum(), counter.revenue.sum());
+                if (!delta.isZero()) totals.put(key, delta);
+            });
+
+            return totals;
+        }
+    }
+
+    private static final class Counter {
+
+        private final LongAdder units = new LongAdder();
+        private final LongAdder revenue = new LongAdder();
+    }
+}
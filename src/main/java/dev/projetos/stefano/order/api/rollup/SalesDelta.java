@@ -0,0 +1,15 @@
+package dev.projetos.stefano.order.api.rollup;
+
+/**
+ * Change in units sold and revenue (in minor units) for one {@link SalesKey}.
+ */
+public record SalesDelta(long units, long revenue) {
+
+    public SalesDelta plus(SalesDelta other) {
+        return new SalesDelta(units + other.units, revenue + other.revenue);
+    }
+
+    public boolean isZero() {
+        return units == 0 && revenue == 0;
+    }
+}
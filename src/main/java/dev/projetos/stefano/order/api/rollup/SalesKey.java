@@ -0,0 +1,12 @@
+package dev.projetos.stefano.order.api.rollup;
+
+import java.time.LocalDate;
+
+public record SalesKey(LocalDate day, Long productId) implements Comparable<SalesKey> {
+
+    @Override
+    public int compareTo(SalesKey other) {
+        int byDay = day.compareTo(other.day);
+        return byDay != 0 ? byDay : productId.compareTo(other.productId);
+    }
+}
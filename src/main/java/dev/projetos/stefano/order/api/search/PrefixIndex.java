@@ -0,0 +1,227 @@
+package dev.projetos.stefano.order.api.search;
+
+import dev.projetos.stefano.order.api.dtos.response.ProductSuggestionResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Immutable prefix index over product names. The folded names are concatenated into one {@code char[]} and every
+ * word start becomes an entry, so "Smart TV" is found by both "sma" and "tv". Entries are sorted by the text that
+ * follows them: the entries starting with a prefix form one contiguous range, found by binary search. A segment tree
+ * over the entries keeps the most popular entry of every range, so the best {@code k} matches come out in
+ * O(k log n) no matter how many names share the prefix.
+ * <p>
+ * Memory is one char per folded character plus a few ints per word, instead of a node per character as in a trie.
+ */
+public final class PrefixIndex {
+
+    private static final char END = '\0';
+    private static final int INSERTION_SORT_THRESHOLD = 12;
+
+    private final long[] ids;
+    private final String[] names;
+    private final long[] weights;
+    private final char[] text;
+    private final int[] starts;
+    private final int[] owners;
+    private final int[] best;
+
+    private PrefixIndex(long[] ids, String[] names, long[] weights, char[] text, int[] starts, int[] owners) {
+        this.ids = ids;
+        this.names = names;
+        this.weights = weights;
+        this.text = text;
+        this.starts = starts;
+        this.owners = owners;
+        this.best = new int[2 * starts.length];
+
+        for (int i = 0; i < starts.length; i++) best[starts.length + i] = i;
+        for (int node = starts.length - 1; node > 0; node--) best[node] = better(best[2 * node], best[2 * node + 1]);
+    }
+
+    /**
+     * Builds the index from parallel arrays: product {@code ids}, their display {@code names} and their popularity
+     * {@code weights}.
+     */
+    public static PrefixIndex build(long[] ids, String[] names, long[] weights) {
+        StringBuilder folded = new StringBuilder();
+        int[] bases = new int[names.length];
+        int[] baseOwners = new int[names.length];
+        int products = 0;
+        int words = 0;
+
+        for (int product = 0; product < names.length; product++) {
+            String name = TextNormalizer.fold(names[product]);
+            if (name.isEmpty()) continue;
+
+            bases[products] = folded.length();
+            baseOwners[products++] = product;
+            words += (int) name.chars().filter(c -> c == ' ').count() + 1;
+            folded.append(name).append(END);
+        }
+
+        char[] text = folded.toString().toCharArray();
+        int[] starts = new int[words];
+        int[] owners = new int[words];
+
+        for (int i = 0, entry = 0; i < text.length; i++) {
+            if (text[i] != END && text[i] != ' ' && (i == 0 || text[i - 1] == ' ' || text[i - 1] == END)) starts[entry++] = i;
+        }
+
+        sort(text, starts, 0, starts.length - 1, 0);
+
+        for (int i = 0; i < starts.length; i++) {
+            int base = Arrays.binarySearch(bases, 0, products, starts[i]);
+            owners[i] = baseOwners[base >= 0 ? base : -base - 2];
+        }
+
+        return new PrefixIndex(ids, names, weights, text, starts, owners);
+    }
+
+    /**
+     * Returns up to {@code count} distinct products with a word starting with {@code prefix}, most popular first.
+     */
+    public List<ProductSuggestionResponse> top(String prefix, int count) {
+        return matches(prefix, count, Set.of())
+                .stream()
+                .map(match -> new ProductSuggestionResponse(match.id(), match.name()))
+                .toList();
+    }
+
+    /**
+     * Like {@link #top}, skipping the products in {@code hidden} and keeping the weight of each match, so the results
+     * of two indexes can be merged.
+     */
+    public List<Match> matches(String prefix, int count, Set<Long> hidden) {
+        String key = TextNormalizer.foldPrefix(prefix);
+        if (key.isEmpty() || count <= 0) return List.of();
+
+        int from = bound(key, false);
+        int to = bound(key, true);
+        if (from == to) return List.of();
+
+        PriorityQueue<Range> ranges = new PriorityQueue<>((a, b) -> better(a.best(), b.best()) == a.best() ? -1 : 1);
+        ranges.add(new Range(from, to, query(from, to)));
+
+        List<Match> matches = new ArrayList<>(count);
+        Set<Integer> seen = new HashSet<>();
+
+        while (matches.size() < count && !ranges.isEmpty()) {
+            Range range = ranges.poll();
+            int product = owners[range.best()];
+
+            if (seen.add(product) && !hidden.contains(ids[product])) {
+                matches.add(new Match(ids[product], names[product], weights[product]));
+            }
+
+            if (range.from() < range.best()) ranges.add(new Range(range.from(), range.best(), query(range.from(), range.best())));
+            if (range.best() + 1 < range.to()) ranges.add(new Range(range.best() + 1, range.to(), query(range.best() + 1, range.to())));
+        }
+
+        return matches;
+    }
+
+    // First entry whose key starts with the prefix or sorts after it; with inclusive, first entry sorting after every
+    // key that starts with it.
+    private int bound(String prefix, boolean inclusive) {
+        int low = 0;
+        int high = starts.length;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = comparePrefix(starts[mid], prefix);
+
+            if (cmp < 0 || (inclusive && cmp == 0)) low = mid + 1;
+            else high = mid;
+        }
+
+        return low;
+    }
+
+    private int comparePrefix(int start, String prefix) {
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = text[start + i];
+            if (c != prefix.charAt(i)) return c - prefix.charAt(i);
+        }
+        return 0;
+    }
+
+    // Multikey quicksort: three-way partition on the character at depth, so keys sharing a long prefix are not
+    // compared from their first character again at every level, and no entry is boxed.
+    private static void sort(char[] text, int[] starts, int low, int high, int depth) {
+        while (high - low >= INSERTION_SORT_THRESHOLD) {
+            swap(starts, low, (low + high) >>> 1);
+            char pivot = text[starts[low] + depth];
+            int lt = low;
+            int gt = high;
+
+            for (int i = low + 1; i <= gt; ) {
+                char c = text[starts[i] + depth];
+                if (c < pivot) swap(starts, lt++, i++);
+                else if (c > pivot) swap(starts, i, gt--);
+                else i++;
+            }
+
+            sort(text, starts, low, lt - 1, depth);
+            if (pivot != END) sort(text, starts, lt, gt, depth + 1);
+            low = gt + 1;
+        }
+
+        for (int i = low + 1; i <= high; i++) {
+            for (int j = i; j > low && compareKeys(text, starts[j - 1] + depth, starts[j] + depth) > 0; j--) {
+                swap(starts, j - 1, j);
+            }
+        }
+    }
+
+    private static int compareKeys(char[] text, int a, int b) {
+        for (int i = a, j = b; ; i++, j++) {
+            if (text[i] != text[j]) return text[i] - text[j];
+            if (text[i] == END) return 0;
+        }
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
+
+    // Most popular entry in [from, to), walking the segment tree bottom-up.
+    private int query(int from, int to) {
+        int result = -1;
+
+        for (int l = from + starts.length, r = to + starts.length; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) result = better(result, best[l++]);
+            if ((r & 1) == 1) result = better(result, best[--r]);
+        }
+
+        return result;
+    }
+
+    private int better(int a, int b) {
+        if (a < 0) return b;
+        if (b < 0) return a;
+
+        long wa = weight(a);
+        long wb = weight(b);
+
+        if (wa != wb) return wa > wb ? a : b;
+        return Math.min(a, b);
+    }
+
+    private long weight(int entry) {
+        return weights[owners[entry]];
+    }
+
+    public record Match(long id, String name, long weight) {
+    }
+
+    private record Range(int from, int to, int best) {
+    }
+}
@@ -0,0 +1,255 @@
+package dev.projetos.stefano.order.api.search;
+
+import dev.projetos.stefano.order.api.dtos.response.CategoryResponse;
+import dev.projetos.stefano.order.api.dtos.response.ProductResponse;
+import dev.projetos.stefano.order.api.entities.Product;
+import dev.projetos.stefano.order.api.mapper.ProductMapper;
+import dev.projetos.stefano.order.api.repositories.ProductRepository;
+import dev.projetos.stefano.order.api.services.events.CategoryChangedEvent;
+import dev.projetos.stefano.order.api.services.events.ProductChangedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory inverted index over product names and descriptions. Text is split on anything that is not a letter or
+ * digit, lower-cased and stripped of accents, so "Lâmpada" and "lampada" match. A product matches when it contains
+ * every query term; matches are ranked by TF-IDF, with terms found in the name weighted above the description.
+ * <p>
+ * The catalog is read on the first search and then patched from {@link ProductChangedEvent} and
+ * {@link CategoryChangedEvent}, so searches never touch the database. Reindexing a product reads it and applies it
+ * while holding that product's stripe lock, so two reindexes of the same product cannot apply out of order and leave
+ * the older read in the index.
+ */
+@Component
+public class ProductSearchIndex {
+
+    private static final double NAME_BOOST = 3.0;
+    private static final int LOAD_CHUNK_SIZE = 500;
+    private static final int REINDEX_STRIPES = 64;
+
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Map<Long, Posting>> postings = new HashMap<>();
+    private final Lock[] reindexLocks = new Lock[REINDEX_STRIPES];
+    private boolean loaded;
+
+    public ProductSearchIndex(ProductRepository productRepository, ProductMapper productMapper) {
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+
+        for (int i = 0; i < REINDEX_STRIPES; i++) {
+            reindexLocks[i] = new ReentrantLock();
+        }
+    }
+
+    public static List<String> tokenize(String text) {
+        String folded = TextNormalizer.fold(text);
+        if (folded.isEmpty()) return List.of();
+
+        return List.of(folded.split(" "));
+    }
+
+    /**
+     * Returns up to {@code count} products matching every term of {@code query}, best first, skipping the first
+     * {@code offset} matches.
+     */
+    public List<ProductResponse> search(String query, int offset, int count) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty()) return List.of();
+
+        ensureLoaded();
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Posting>> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Posting> list = postings.get(term);
+                if (list == null) return List.of();
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            int wanted = offset + count;
+            PriorityQueue<Hit> top = new PriorityQueue<>(Hit.BEST_FIRST.reversed());
+
+            for (Long id : lists.getFirst().keySet()) {
+                double score = score(id, lists);
+                if (Double.isNaN(score)) continue;
+
+                top.add(new Hit(id, score));
+                if (top.size() > wanted) top.poll();
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(Hit.BEST_FIRST);
+
+            return hits.stream()
+                    .skip(offset)
+                    .map(hit -> documents.get(hit.productId()).product())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        reindex(List.of(event.productId()));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        List<Long> affected;
+
+        lock.readLock().lock();
+        try {
+            affected = documents.values()
+                    .stream()
+                    .filter(document -> document.product().categories().stream().map(CategoryResponse::id).anyMatch(event.categoryId()::equals))
+                    .map(document -> document.product().id())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (!affected.isEmpty()) reindex(affected);
+    }
+
+    // Reads the products before taking the lock and applies them after it, so a change committed while the index is
+    // loading is applied on top of the loaded state instead of being overwritten by it.
+    void reindex(Collection<Long> ids) {
+        List<Lock> locks = reindexLocks(ids);
+        locks.forEach(Lock::lock);
+        try {
+            Map<Long, ProductResponse> current = findResponses(ids);
+
+            lock.writeLock().lock();
+            try {
+                if (!loaded) return;
+
+                for (Long id : ids) {
+                    remove(id);
+                    if (current.containsKey(id)) add(current.get(id));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            locks.reversed().forEach(Lock::unlock);
+        }
+    }
+
+    // Taken in stripe order, so a category change reindexing many products cannot deadlock with another reindex.
+    private List<Lock> reindexLocks(Collection<Long> ids) {
+        return ids.stream()
+                .mapToInt(id -> Math.floorMod(id.hashCode(), REINDEX_STRIPES))
+                .distinct()
+                .sorted()
+                .mapToObj(stripe -> reindexLocks[stripe])
+                .toList();
+    }
+
+    private void ensureLoaded() {
+        lock.readLock().lock();
+        try {
+            if (loaded) return;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (loaded) return;
+
+            long after = 0;
+            while (true) {
+                List<Long> ids = productRepository.findIdsAfter(after, Limit.of(LOAD_CHUNK_SIZE));
+                if (ids.isEmpty()) break;
+
+                findResponses(ids).values().forEach(this::add);
+                after = ids.getLast();
+            }
+
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Map<Long, ProductResponse> findResponses(Collection<Long> ids) {
+        return productRepository.findByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(Product::getId, productMapper::toResponse));
+    }
+
+    private double score(Long id, List<Map<Long, Posting>> lists) {
+        double score = 0;
+
+        for (Map<Long, Posting> list : lists) {
+            Posting posting = list.get(id);
+            if (posting == null) return Double.NaN;
+
+            double idf = Math.log(1.0 + (double) documents.size() / list.size());
+            score += idf * (NAME_BOOST * posting.name() + posting.description());
+        }
+
+        return score;
+    }
+
+    private void add(ProductResponse product) {
+        Map<String, Posting> terms = new HashMap<>();
+        tokenize(product.name()).forEach(term -> terms.merge(term, new Posting(1, 0), Posting::plus));
+        tokenize(product.description()).forEach(term -> terms.merge(term, new Posting(0, 1), Posting::plus));
+
+        terms.forEach((term, posting) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(product.id(), posting));
+        documents.put(product.id(), new Document(product, terms.keySet()));
+    }
+
+    private void remove(Long id) {
+        Document document = documents.remove(id);
+        if (document == null) return;
+
+        for (String term : document.terms()) {
+            Map<Long, Posting> list = postings.get(term);
+            list.remove(id);
+            if (list.isEmpty()) postings.remove(term);
+        }
+    }
+
+    private record Document(ProductResponse product, Set<String> terms) {
+    }
+
+    private record Posting(int name, int description) {
+
+        Posting plus(Posting other) {
+            return new Posting(name + other.name, description + other.description);
+        }
+    }
+
+    private record Hit(Long productId, double score) {
+
+        static final Comparator<Hit> BEST_FIRST = Comparator.comparingDouble(Hit::score).reversed().thenComparing(Hit::productId);
+    }
+}
@@ -0,0 +1,161 @@
+package dev.projetos.stefano.order.api.search;
+
+import dev.projetos.stefano.order.api.dtos.response.ProductSuggestionResponse;
+import dev.projetos.stefano.order.api.repositories.ProductRepository;
+import dev.projetos.stefano.order.api.repositories.projections.ProductPopularityRow;
+import dev.projetos.stefano.order.api.services.events.ProductChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Autocomplete over product names, ranked by units sold. Suggestions are served from an immutable
+ * {@link PrefixIndex} over the whole catalog, built on the first request and rebuilt every
+ * {@code app.suggest.refresh-interval} to pick up units sold.
+ * <p>
+ * A product change does not rebuild it: only the changed products are read again, into a small patch index that
+ * hides their entries in the catalog index and is merged with it at query time. Patches are applied on a background
+ * thread and swapped in when done, so requests never wait; changes arriving while one runs are folded into the next.
+ * Once more than {@value #MAX_PATCHED_PRODUCTS} products are patched, the next change rebuilds the catalog index.
+ */
+@Component
+public class ProductSuggester {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSuggester.class);
+
+    private static final int MAX_PATCHED_PRODUCTS = 1000;
+
+    private final ProductRepository productRepository;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean patchQueued = new AtomicBoolean();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(Thread.ofPlatform()
+            .name("product-suggester")
+            .daemon()
+            .factory());
+
+    public ProductSuggester(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    public List<ProductSuggestionResponse> suggest(String prefix, int count) {
+        return snapshot().top(prefix, count);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (snapshot.get() == null) return;
+
+        changed.add(event.productId());
+        if (!patchQueued.compareAndSet(false, true)) return;
+
+        rebuilder.execute(() -> {
+            patchQueued.set(false);
+            update(this::patch, "patch");
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.suggest.refresh-interval:10m}", initialDelayString = "${app.suggest.refresh-interval:10m}")
+    public void refresh() {
+        if (snapshot.get() == null) return;
+
+        rebuilder.execute(() -> update(current -> Snapshot.of(build()), "rebuild"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private void update(UnaryOperator<Snapshot> change, String action) {
+        try {
+            snapshot.set(change.apply(snapshot.get()));
+        } catch (RuntimeException e) {
+            log.warn("Could not {} the product suggestion index, keeping the previous one", action, e);
+        }
+    }
+
+    private Snapshot patch(Snapshot current) {
+        Set<Long> patched = new HashSet<>(current.patched());
+        for (Long id : changed) {
+            if (changed.remove(id)) patched.add(id);
+        }
+
+        if (patched.size() > MAX_PATCHED_PRODUCTS) {
+            return Snapshot.of(build());
+        }
+
+        return new Snapshot(current.catalog(), index(productRepository.findPopularityByIdIn(patched)), Set.copyOf(patched));
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot.get();
+        return current != null ? current : load();
+    }
+
+    private synchronized Snapshot load() {
+        Snapshot current = snapshot.get();
+        if (current != null) return current;
+
+        Snapshot loaded = Snapshot.of(build());
+        snapshot.set(loaded);
+        return loaded;
+    }
+
+    PrefixIndex build() {
+        return index(productRepository.findPopularity());
+    }
+
+    private static PrefixIndex index(List<ProductPopularityRow> rows) {
+        long[] ids = new long[rows.size()];
+        String[] names = new String[rows.size()];
+        long[] weights = new long[rows.size()];
+
+        for (int i = 0; i < rows.size(); i++) {
+            ProductPopularityRow row = rows.get(i);
+            ids[i] = row.id();
+            names[i] = row.name();
+            weights[i] = row.unitsSold();
+        }
+
+        return PrefixIndex.build(ids, names, weights);
+    }
+
+    /**
+     * The catalog index, the patch index of the products changed since it was built, and their ids. A deleted
+     * product is patched but has no entry in the patch index.
+     */
+    private record Snapshot(PrefixIndex catalog, PrefixIndex patch, Set<Long> patched) {
+
+        private static final PrefixIndex EMPTY = PrefixIndex.build(new long[0], new String[0], new long[0]);
+
+        static Snapshot of(PrefixIndex catalog) {
+            return new Snapshot(catalog, EMPTY, Set.of());
+        }
+
+        List<ProductSuggestionResponse> top(String prefix, int count) {
+            if (patched.isEmpty()) return catalog.top(prefix, count);
+
+            return Stream.concat(patch.matches(prefix, count, Set.of()).stream(), catalog.matches(prefix, count, patched).stream())
+                    .sorted(Comparator.comparingLong(PrefixIndex.Match::weight).reversed())
+                    .limit(count)
+                    .map(match -> new ProductSuggestionResponse(match.id(), match.name()))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package dev.projetos.stefano.order.api.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Folds text for matching: lower-cased, stripped of accents, and with every run of characters that are not letters or
+ * digits replaced by a single space.
+ */
+public final class TextNormalizer {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TextNormalizer() {
+    }
+
+    public static String fold(String text) {
+        return foldPrefix(text).stripTrailing();
+    }
+
+    /**
+     * Like {@link #fold(String)}, but keeps one trailing space when the text ends with a separator, so "smart " only
+     * matches words following "smart" and not "smartphone".
+     */
+    public static String foldPrefix(String text) {
+        if (text == null || text.isBlank()) return "";
+
+        String folded = isAscii(text) ? text : MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+
+        return SEPARATORS.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll(" ").stripLeading();
+    }
+
+    // ASCII has no combining marks, so most names can skip the decomposition
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0x7F) return false;
+        }
+        return true;
+    }
+}
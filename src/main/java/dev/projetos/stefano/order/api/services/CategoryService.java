@@ -1,40 +1,54 @@
 package dev.projetos.stefano.order.api.services;
 
+import dev.projetos.stefano.order.api.cache.CategoryCatalog;
 import dev.projetos.stefano.order.api.dtos.request.CategoryRequest;
 import dev.projetos.stefano.order.api.dtos.response.CategoryResponse;
+import dev.projetos.stefano.order.api.dtos.response.PageResponse;
 import dev.projetos.stefano.order.api.entities.Category;
 import dev.projetos.stefano.order.api.mapper.CategoryMapper;
+import dev.projetos.stefano.order.api.pagination.Cursor;
 import dev.projetos.stefano.order.api.repositories.CategoryRepository;
 import dev.projetos.stefano.order.api.resources.exceptions.DatabaseException;
+import dev.projetos.stefano.order.api.services.events.CategoryChangedEvent;
 import dev.projetos.stefano.order.api.services.exceptions.ResourceNotFoundException;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed("app.service")
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final CategoryCatalog categoryCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CategoryService(CategoryRepository categoryRepository, CategoryMapper categoryMapper) {
+    public CategoryService(CategoryRepository categoryRepository, CategoryMapper categoryMapper, CategoryCatalog categoryCatalog, ApplicationEventPublisher eventPublisher) {
         this.categoryRepository = categoryRepository;
         this.categoryMapper = categoryMapper;
+        this.categoryCatalog = categoryCatalog;
+        this.eventPublisher = eventPublisher;
     }
 
-    public List<CategoryResponse> findAll() {
-        return categoryRepository.findAll()
-                .stream()
-                .map(categoryMapper::toResponse)
-                .toList();
+    public PageResponse<CategoryResponse> findAll(String after, Integer limit) {
+        int size = Cursor.limit(limit);
+        List<CategoryResponse> rows = categoryCatalog.findAfter(Cursor.decodeId(after), size + 1);
+
+        return PageResponse.of(rows, size, Function.identity(), row -> Cursor.encode(row.id()));
     }
 
     public CategoryResponse findById(Long id) {
-        return categoryRepository.findById(id)
-                .map(categoryMapper::toResponse)
+        return categoryCatalog.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(id));
     }
 
@@ -42,7 +56,10 @@ public class CategoryService {
     public CategoryResponse insert(CategoryRequest request) {
         Category category = categoryMapper.toEntity(request);
 
-        return categoryMapper.toResponse(categoryRepository.save(category));
+        Category saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(saved.getId()));
+
+        return categoryMapper.toResponse(saved);
     }
 
     @Transactional
@@ -54,6 +71,7 @@ public class CategoryService {
 
             categoryRepository.deleteById(id);
             categoryRepository.flush();
+            eventPublisher.publishEvent(new CategoryChangedEvent(id));
         } catch (DataIntegrityViolationException e) {
             throw new DatabaseException("Cannot delete: Category has associated records");
         }
@@ -65,15 +83,31 @@ public class CategoryService {
             Category category = categoryRepository.getReferenceById(id);
             category.setName(request.name());
 
-            return categoryMapper.toResponse(categoryRepository.save(category));
+            Category saved = categoryRepository.save(category);
+            eventPublisher.publishEvent(new CategoryChangedEvent(id));
+
+            return categoryMapper.toResponse(saved);
         } catch (EntityNotFoundException e) {
             throw new ResourceNotFoundException(id);
         }
     }
 
     public Category findEntityById(Long id) {
-        return categoryRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException(id));
+        if (categoryCatalog.findById(id).isEmpty()) {
+            throw new ResourceNotFoundException(id);
+        }
+
+        return categoryRepository.getReferenceById(id);
+    }
+
+    public Set<Category> findEntitiesById(Collection<Long> ids) {
+        if (!categoryCatalog.containsAll(ids)) {
+            throw new ResourceNotFoundException("One or more categories not found");
+        }
+
+        return ids.stream()
+                .map(categoryRepository::getReferenceById)
+                .collect(Collectors.toSet());
     }
 
 }
@@ -0,0 +1,53 @@
+package dev.projetos.stefano.order.api.services;
+
+import dev.projetos.stefano.order.api.inventory.StripedStock;
+import dev.projetos.stefano.order.api.repositories.ProductRepository;
+import dev.projetos.stefano.order.api.services.exceptions.InsufficientStockException;
+import dev.projetos.stefano.order.api.services.exceptions.ResourceNotFoundException;
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@Timed("app.service")
+public class InventoryService {
+
+    private final ProductRepository productRepository;
+    private final StripedStock stripedStock;
+
+    public InventoryService(ProductRepository productRepository, StripedStock stripedStock) {
+        this.productRepository = productRepository;
+        this.stripedStock = stripedStock;
+    }
+
+    // Rows are locked in ascending id order, so two orders sharing products cannot deadlock each other.
+    @Transactional
+    public void reserve(Map<Long, Integer> quantities) {
+        new TreeMap<>(quantities).forEach((productId, quantity) -> {
+            if (stripedStock.isTracked(productId)) {
+                stripedStock.reserve(productId, quantity);
+            } else if (productRepository.decrementStock(productId, quantity) == 0) {
+                throw new InsufficientStockException(productId);
+            }
+        });
+    }
+
+    public long findAvailable(Long productId) {
+        int stock = productRepository.findStockById(productId)
+                .orElseThrow(() -> new ResourceNotFoundException(productId));
+
+        return stock + stripedStock.available(productId);
+    }
+
+    @Transactional
+    public void updateStock(Long productId, int stock) {
+        if (productRepository.updateStock(productId, stock) == 0) {
+            throw new ResourceNotFoundException(productId);
+        }
+
+        stripedStock.discard(productId);
+    }
+}
@@ -0,0 +1,172 @@
+package dev.projetos.stefano.order.api.services;
+
+import dev.projetos.stefano.order.api.dtos.request.OrderItemRequest;
+import dev.projetos.stefano.order.api.dtos.request.OrderRequest;
+import dev.projetos.stefano.order.api.dtos.response.OrderBatchResultResponse;
+import dev.projetos.stefano.order.api.dtos.response.ProductResponse;
+import dev.projetos.stefano.order.api.entities.Order;
+import dev.projetos.stefano.order.api.entities.User;
+import dev.projetos.stefano.order.api.metrics.OrderMetrics;
+import dev.projetos.stefano.order.api.repositories.OrderRepository;
+import dev.projetos.stefano.order.api.repositories.UserRepository;
+import dev.projetos.stefano.order.api.services.exceptions.InvalidParameterException;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Timed("app.service")
+public class OrderBatchService {
+
+    private static final int MAX_BATCH_SIZE = 5000;
+    private static final int CHUNK_SIZE = 100;
+
+    private final OrderRepository orderRepository;
+    private final UserRepository userRepository;
+    private final ProductService productService;
+    private final OrderPlacement orderPlacement;
+    private final OrderMetrics orderMetrics;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+
+    public OrderBatchService(OrderRepository orderRepository, UserRepository userRepository, ProductService productService, OrderPlacement orderPlacement, OrderMetrics orderMetrics, EntityManager entityManager, TransactionTemplate transactionTemplate, Validator validator) {
+        this.orderRepository = orderRepository;
+        this.userRepository = userRepository;
+        this.productService = productService;
+        this.orderPlacement = orderPlacement;
+        this.orderMetrics = orderMetrics;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+    }
+
+    public List<OrderBatchResultResponse> insertAll(List<OrderRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new InvalidParameterException("At least one order is required");
+        }
+
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new InvalidParameterException("A batch accepts at most " + MAX_BATCH_SIZE + " orders");
+        }
+
+        OrderBatchResultResponse[] results = new OrderBatchResultResponse[requests.size()];
+        List<Integer> valid = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            String violation = validate(requests.get(i));
+
+            if (violation != null) {
+                results[i] = OrderBatchResultResponse.failed(i, violation);
+                orderMetrics.recordFailure(OrderMetrics.INVALID);
+            } else {
+                valid.add(i);
+            }
+        }
+
+        Set<Long> clientIds = valid.stream()
+                .map(i -> requests.get(i).clientId())
+                .collect(Collectors.toSet());
+
+        Set<Long> productIds = valid.stream()
+                .flatMap(i -> requests.get(i).items().stream())
+                .map(OrderItemRequest::productId)
+                .collect(Collectors.toSet());
+
+        Set<Long> clients = userRepository.findAllById(clientIds)
+                .stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+
+        Map<Long, ProductResponse> products = productService.findAllById(productIds);
+
+        List<PendingOrder> pending = new ArrayList<>();
+
+        for (int i : valid) {
+            OrderRequest request = requests.get(i);
+            Map<Long, Integer> quantities = OrderPlacement.mergeItems(request.items());
+
+            List<Long> missing = quantities.keySet().stream()
+                    .filter(id -> !products.containsKey(id))
+                    .toList();
+
+            if (!clients.contains(request.clientId())) {
+                results[i] = OrderBatchResultResponse.failed(i, "Client not found. Id: " + request.clientId());
+                orderMetrics.recordFailure(OrderMetrics.NOT_FOUND);
+            } else if (!missing.isEmpty()) {
+                results[i] = OrderBatchResultResponse.failed(i, "Products not found. Ids: " + missing);
+                orderMetrics.recordFailure(OrderMetrics.NOT_FOUND);
+            } else {
+                pending.add(new PendingOrder(i, request.clientId(), quantities));
+            }
+        }
+
+        for (int from = 0; from < pending.size(); from += CHUNK_SIZE) {
+            List<PendingOrder> chunk = pending.subList(from, Math.min(from + CHUNK_SIZE, pending.size()));
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(chunk, products, results));
+            } catch (RuntimeException e) {
+                persistOneByOne(chunk, products, results);
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private void persistOneByOne(List<PendingOrder> chunk, Map<Long, ProductResponse> products, OrderBatchResultResponse[] results) {
+        for (PendingOrder order : chunk) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(List.of(order), products, results));
+            } catch (RuntimeException e) {
+                results[order.index()] = OrderBatchResultResponse.failed(order.index(), "Could not persist order: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                orderMetrics.recordFailure(e);
+            }
+        }
+    }
+
+    private void persist(List<PendingOrder> chunk, Map<Long, ProductResponse> products, OrderBatchResultResponse[] results) {
+        List<Order> orders = orderPlacement.place(chunk.stream()
+                .map(pending -> new OrderPlacement.Draft(userRepository.getReferenceById(pending.clientId()), pending.quantities()))
+                .toList(), products);
+        orderRepository.flush();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            int index = chunk.get(i).index();
+            results[index] = OrderBatchResultResponse.created(index, orders.get(i).getId());
+        }
+
+        entityManager.clear();
+    }
+
+    private String validate(OrderRequest request) {
+        if (request == null) {
+            return "Order cannot be null";
+        }
+
+        Set<ConstraintViolation<OrderRequest>> violations = validator.validate(request);
+
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private record PendingOrder(int index, Long clientId, Map<Long, Integer> quantities) {
+    }
+}
@@ -0,0 +1,79 @@
+package dev.projetos.stefano.order.api.services;
+
+import dev.projetos.stefano.order.api.dtos.request.OrderItemRequest;
+import dev.projetos.stefano.order.api.dtos.response.ProductResponse;
+import dev.projetos.stefano.order.api.entities.Order;
+import dev.projetos.stefano.order.api.entities.OrderItem;
+import dev.projetos.stefano.order.api.entities.User;
+import dev.projetos.stefano.order.api.entities.enums.OrderStatus;
+import dev.projetos.stefano.order.api.metrics.OrderMetrics;
+import dev.projetos.stefano.order.api.repositories.OrderRepository;
+import dev.projetos.stefano.order.api.repositories.ProductRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Places orders whose client and products were already resolved by the caller: reserves the stock of all of them at
+ * once, saves them and records them in the sales rollup and the metrics. Runs in the caller's transaction.
+ */
+@Component
+class OrderPlacement {
+
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+    private final InventoryService inventoryService;
+    private final SalesReportService salesReportService;
+    private final OrderMetrics orderMetrics;
+
+    OrderPlacement(OrderRepository orderRepository, ProductRepository productRepository, InventoryService inventoryService, SalesReportService salesReportService, OrderMetrics orderMetrics) {
+        this.orderRepository = orderRepository;
+        this.productRepository = productRepository;
+        this.inventoryService = inventoryService;
+        this.salesReportService = salesReportService;
+        this.orderMetrics = orderMetrics;
+    }
+
+    List<Order> place(List<Draft> drafts, Map<Long, ProductResponse> products) {
+        Map<Long, Integer> quantities = new HashMap<>();
+        drafts.forEach(draft -> draft.quantities().forEach((productId, quantity) -> quantities.merge(productId, quantity, Integer::sum)));
+        inventoryService.reserve(quantities);
+
+        List<Order> orders = new ArrayList<>(drafts.size());
+
+        for (Draft draft : drafts) {
+            Order order = new Order();
+            order.setMoment(Instant.now());
+            order.setOrderStatus(OrderStatus.WAITING_PAYMENT);
+            order.setClient(draft.client());
+
+            draft.quantities().forEach((productId, quantity) -> order.getItems().add(
+                    new OrderItem(order, productRepository.getReferenceById(productId), quantity, products.get(productId).price())));
+            order.calculateTotal();
+
+            orders.add(orderRepository.save(order));
+        }
+
+        salesReportService.recordPlaced(orders);
+        orderMetrics.recordPlaced(orders);
+
+        return orders;
+    }
+
+    static Map<Long, Integer> mergeItems(List<OrderItemRequest> items) {
+        return items.stream()
+                .collect(Collectors.toMap(OrderItemRequest::productId, OrderItemRequest::quantity, Integer::sum, LinkedHashMap::new));
+    }
+
+    /**
+     * One order to place: its client and the quantity of each product, with repeated lines already merged.
+     */
+    record Draft(User client, Map<Long, Integer> quantities) {
+    }
+}
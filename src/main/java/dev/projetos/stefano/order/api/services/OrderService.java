@@ -1,65 +1,300 @@
 package dev.projetos.stefano.order.api.services;
 
 import dev.projetos.stefano.order.api.dtos.request.OrderRequest;
+import dev.projetos.stefano.order.api.dtos.response.OrderBatchResultResponse;
+import dev.projetos.stefano.order.api.dtos.response.OrderPageResponse;
 import dev.projetos.stefano.order.api.dtos.response.OrderResponse;
+import dev.projetos.stefano.order.api.dtos.response.OrderSummaryResponse;
+import dev.projetos.stefano.order.api.dtos.response.PageResponse;
+import dev.projetos.stefano.order.api.dtos.response.ProductResponse;
 import dev.projetos.stefano.order.api.entities.Order;
-import dev.projetos.stefano.order.api.entities.OrderItem;
-import dev.projetos.stefano.order.api.entities.Product;
 import dev.projetos.stefano.order.api.entities.User;
 import dev.projetos.stefano.order.api.entities.enums.OrderStatus;
 import dev.projetos.stefano.order.api.mapper.OrderMapper;
+import dev.projetos.stefano.order.api.metrics.OrderMetrics;
+import dev.projetos.stefano.order.api.pagination.Cursor;
+import dev.projetos.stefano.order.api.pagination.MomentCursor;
 import dev.projetos.stefano.order.api.repositories.OrderRepository;
-import dev.projetos.stefano.order.api.repositories.ProductRepository;
 import dev.projetos.stefano.order.api.repositories.UserRepository;
+import dev.projetos.stefano.order.api.repositories.projections.FilteredOrders;
+import dev.projetos.stefano.order.api.repositories.projections.OrderItemRow;
+import dev.projetos.stefano.order.api.repositories.projections.OrderKeyRow;
+import dev.projetos.stefano.order.api.repositories.projections.OrderRow;
+import dev.projetos.stefano.order.api.repositories.projections.OrderSummaryRow;
+import dev.projetos.stefano.order.api.repositories.projections.PaymentRow;
+import dev.projetos.stefano.order.api.services.exceptions.InsufficientStockException;
+import dev.projetos.stefano.order.api.services.exceptions.InvalidParameterException;
 import dev.projetos.stefano.order.api.services.exceptions.ResourceNotFoundException;
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.OutputStream;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Service
+@Timed("app.service")
 public class OrderService {
 
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
     private final OrderRepository orderRepository;
     private final OrderMapper orderMapper;
     private final UserRepository userRepository;
-    private final ProductRepository productRepository;
+    private final ProductService productService;
+    private final OrderPlacement orderPlacement;
+    private final SalesReportService salesReportService;
+    private final OrderMetrics orderMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
 
-    public OrderService(OrderRepository orderRepository, OrderMapper orderMapper, UserRepository userRepository, ProductRepository productRepository) {
+    public OrderService(OrderRepository orderRepository, OrderMapper orderMapper, UserRepository userRepository, ProductService productService, OrderPlacement orderPlacement, SalesReportService salesReportService, OrderMetrics orderMetrics, TransactionTemplate transactionTemplate, JsonMapper jsonMapper) {
         this.orderRepository = orderRepository;
         this.orderMapper = orderMapper;
         this.userRepository = userRepository;
-        this.productRepository = productRepository;
+        this.productService = productService;
+        this.orderPlacement = orderPlacement;
+        this.salesReportService = salesReportService;
+        this.orderMetrics = orderMetrics;
+        this.transactionTemplate = transactionTemplate;
+        this.jsonMapper = jsonMapper;
     }
 
-    public List<OrderResponse> findAll() {
-        return orderRepository.findAllWithDetails()
-                .stream().map(orderMapper::toResponse)
-                .toList();
+    public PageResponse<OrderResponse> findAll(String after, Integer limit) {
+        int size = Cursor.limit(limit);
+        List<Long> ids = orderRepository.findIdsAfter(Cursor.decodeId(after), Limit.of(size + 1));
+
+        Map<Long, OrderResponse> orders = findResponses(ids.subList(0, Math.min(size, ids.size())));
+
+        return PageResponse.of(ids, size, orders::get, id -> Cursor.encode(id));
+    }
+
+    /**
+     * Newest orders of a client first, paged by (moment, id). Line items are only read when {@code withItems} is set.
+     */
+    public PageResponse<OrderSummaryResponse> findByClient(Long clientId, String after, Integer limit, boolean withItems) {
+        int size = Cursor.limit(limit);
+        MomentCursor cursor = MomentCursor.decode(after);
+        List<OrderSummaryRow> rows = cursor == null
+                ? orderRepository.findSummariesByClientId(clientId, Limit.of(size + 1))
+                : orderRepository.findSummariesByClientIdBefore(clientId, cursor.moment(), cursor.id(), Limit.of(size + 1));
+
+        if (rows.isEmpty() && !userRepository.existsById(clientId)) {
+            throw new ResourceNotFoundException(clientId);
+        }
+
+        Map<Long, List<OrderItemRow>> items = withItems
+                ? findItemRows(rows.subList(0, Math.min(size, rows.size())).stream().map(OrderSummaryRow::id).toList())
+                : Map.of();
+
+        return PageResponse.of(rows, size,
+                row -> orderMapper.toSummaryResponse(row, withItems ? items.getOrDefault(row.id(), List.of()) : null),
+                row -> MomentCursor.encode(row.moment(), row.id()));
+    }
+
+    /**
+     * Orders filtered by status and by moment in [from, to), newest first. With {@code withCounts}, also returns how
+     * many orders of each status fall in the range, read by the same query as the page.
+     */
+    public OrderPageResponse findFiltered(OrderStatus status, Instant from, Instant to, String after, Integer limit, boolean withCounts) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new InvalidParameterException("'from' must be before 'to'");
+        }
+
+        int size = Cursor.limit(limit);
+        Short code = status == null ? null : (short) status.getCode();
+
+        FilteredOrders result = orderRepository.findFiltered(code, from, to, MomentCursor.decode(after), size + 1, withCounts);
+        List<OrderKeyRow> rows = result.rows();
+
+        Map<Long, OrderResponse> orders = findResponses(rows.subList(0, Math.min(size, rows.size())).stream().map(OrderKeyRow::id).toList());
+        PageResponse<OrderResponse> page = PageResponse.of(rows, size, row -> orders.get(row.id()), row -> MomentCursor.encode(row.moment(), row.id()));
+
+        return OrderPageResponse.of(page, withCounts ? toStatusCounts(result.countsByStatus()) : null);
+    }
+
+    private static Map<String, Long> toStatusCounts(Map<Short, Long> countsByCode) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+
+        for (OrderStatus status : OrderStatus.values()) {
+            counts.put(status.name(), countsByCode.getOrDefault((short) status.getCode(), 0L));
+        }
+
+        return counts;
+    }
+
+    private Map<Long, List<OrderItemRow>> findItemRows(List<Long> orderIds) {
+        if (orderIds.isEmpty()) return Map.of();
+
+        return orderRepository.findItemRowsByOrderIdIn(orderIds)
+                .stream()
+                .collect(Collectors.groupingBy(OrderItemRow::orderId));
+    }
+
+    private Map<Long, PaymentRow> findPaymentRows(List<Long> orderIds) {
+        return orderRepository.findPaymentRowsByOrderIdIn(orderIds)
+                .stream()
+                .collect(Collectors.toMap(PaymentRow::orderId, Function.identity()));
+    }
+
+    private Map<Long, OrderResponse> findResponses(List<Long> ids) {
+        if (ids.isEmpty()) return Map.of();
+
+        Map<Long, List<OrderItemRow>> items = findItemRows(ids);
+
+        Map<Long, PaymentRow> payments = findPaymentRows(ids);
+
+        return orderRepository.findRowsByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(OrderRow::id, row -> orderMapper.toResponse(
+                        row,
+                        items.getOrDefault(row.id(), List.of()),
+                        payments.get(row.id()))));
+    }
+
+    /**
+     * Writes every order as one JSON line, reading them as flat rows. Items and payments are loaded with one query
+     * each per chunk of {@value #EXPORT_CHUNK_SIZE} orders, and the output is flushed after every chunk.
+     */
+    @Transactional
+    public void export(OutputStream out) {
+        ObjectWriter writer = jsonMapper.writer().withRootValueSeparator("\n");
+
+        try (Stream<OrderRow> rows = orderRepository.streamRows();
+             JsonGenerator generator = writer.createGenerator(out)) {
+            Iterator<OrderRow> iterator = rows.iterator();
+            List<OrderRow> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+            boolean written = false;
+
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+
+                if (chunk.size() == EXPORT_CHUNK_SIZE || !iterator.hasNext()) {
+                    writeChunk(writer, generator, chunk);
+                    generator.flush();
+                    chunk.clear();
+                    written = true;
+                }
+            }
+
+            if (written) {
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private void writeChunk(ObjectWriter writer, JsonGenerator generator, List<OrderRow> chunk) {
+        List<Long> ids = chunk.stream().map(OrderRow::id).toList();
+
+        Map<Long, List<OrderItemRow>> items = findItemRows(ids);
+        Map<Long, PaymentRow> payments = findPaymentRows(ids);
+
+        for (OrderRow row : chunk) {
+            writer.writeValue(generator, orderMapper.toResponse(row, items.getOrDefault(row.id(), List.of()), payments.get(row.id())));
+        }
     }
 
     public OrderResponse findById(Long id) {
-        return orderRepository.findById(id).map(orderMapper::toResponse).orElseThrow(() -> new ResourceNotFoundException(id));
+        return orderRepository.findDetailById(id).map(orderMapper::toResponse).orElseThrow(() -> new ResourceNotFoundException(id));
     }
 
+    // The transaction is opened here rather than by @Transactional, so failures raised at commit are counted too.
     public OrderResponse insert(OrderRequest request) {
+        try {
+            return transactionTemplate.execute(status -> place(request));
+        } catch (RuntimeException e) {
+            orderMetrics.recordFailure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Places a small batch of orders in one transaction, through the same steps as {@link #insert}. When that
+     * transaction fails, each order is inserted again on its own, so a bad order fails alone and is counted once.
+     */
+    public List<OrderBatchResultResponse> insertEach(List<OrderRequest> requests) {
+        try {
+            List<OrderResponse> placed = transactionTemplate.execute(status -> requests.stream().map(this::place).toList());
+
+            return IntStream.range(0, requests.size())
+                    .mapToObj(i -> OrderBatchResultResponse.created(i, placed.get(i).id()))
+                    .toList();
+        } catch (RuntimeException e) {
+            return IntStream.range(0, requests.size())
+                    .mapToObj(i -> insertOne(i, requests.get(i)))
+                    .toList();
+        }
+    }
+
+    private OrderBatchResultResponse insertOne(int index, OrderRequest request) {
+        try {
+            return OrderBatchResultResponse.created(index, insert(request).id());
+        } catch (ResourceNotFoundException | InsufficientStockException | InvalidParameterException e) {
+            return OrderBatchResultResponse.failed(index, e.getMessage());
+        } catch (RuntimeException e) {
+            return OrderBatchResultResponse.failed(index, "Could not place order: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        }
+    }
+
+    private OrderResponse place(OrderRequest request) {
         User client = userRepository.findById(request.clientId()).orElseThrow(() -> new ResourceNotFoundException(request.clientId()));
 
-        Order order = new Order();
-        order.setMoment(Instant.now());
-        order.setOrderStatus(OrderStatus.WAITING_PAYMENT);
-        order.setClient(client);
+        Map<Long, Integer> quantities = OrderPlacement.mergeItems(request.items());
+        Map<Long, ProductResponse> products = findProducts(quantities.keySet());
+
+        Order saved = orderPlacement.place(List.of(new OrderPlacement.Draft(client, quantities)), products).getFirst();
+
+        return orderMapper.toResponse(saved, products);
+    }
+
+    @Transactional
+    public OrderResponse updateStatus(Long id, OrderStatus status) {
+        Order order = orderRepository.findDetailById(id).orElseThrow(() -> new ResourceNotFoundException(id));
+        OrderStatus current = order.getOrderStatus();
+
+        if (current == status) {
+            return orderMapper.toResponse(order);
+        }
 
-        Set<OrderItem> items = request.items().stream().map(item -> {
-            Product product = productRepository.findById(item.productId()).orElseThrow(() -> new ResourceNotFoundException(item.productId()));
+        if (current == OrderStatus.CANCELED) {
+            throw new InvalidParameterException("Order " + id + " is canceled and cannot change status");
+        }
 
-            return new OrderItem(order, product, item.quantity(), product.getPrice());
-        }).collect(Collectors.toSet());
+        if (status == OrderStatus.CANCELED) {
+            salesReportService.recordCanceled(order);
+        }
+
+        order.setOrderStatus(status);
+        return orderMapper.toResponse(order);
+    }
+
+    private Map<Long, ProductResponse> findProducts(Set<Long> ids) {
+        Map<Long, ProductResponse> products = productService.findAllById(ids);
+
+        List<Long> missing = ids.stream()
+                .filter(id -> !products.containsKey(id))
+                .toList();
 
-        order.getItems().addAll(items);
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException(missing);
+        }
 
-        return orderMapper.toResponse(orderRepository.save(order));
+        return products;
     }
 }
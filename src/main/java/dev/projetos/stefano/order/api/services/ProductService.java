@@ -1,65 +1,150 @@
 package dev.projetos.stefano.order.api.services;
 
+import dev.projetos.stefano.order.api.cache.ProductCache;
 import dev.projetos.stefano.order.api.dtos.request.ProductRequest;
 import dev.projetos.stefano.order.api.dtos.request.ProductUpdateRequest;
+import dev.projetos.stefano.order.api.dtos.response.PageResponse;
 import dev.projetos.stefano.order.api.dtos.response.ProductResponse;
+import dev.projetos.stefano.order.api.dtos.response.ProductSuggestionResponse;
 import dev.projetos.stefano.order.api.entities.Category;
 import dev.projetos.stefano.order.api.entities.Product;
 import dev.projetos.stefano.order.api.mapper.ProductMapper;
-import dev.projetos.stefano.order.api.repositories.CategoryRepository;
+import dev.projetos.stefano.order.api.pagination.Cursor;
 import dev.projetos.stefano.order.api.repositories.ProductRepository;
 import dev.projetos.stefano.order.api.resources.exceptions.DatabaseException;
+import dev.projetos.stefano.order.api.search.ProductSearchIndex;
+import dev.projetos.stefano.order.api.search.ProductSuggester;
+import dev.projetos.stefano.order.api.services.events.ProductChangedEvent;
 import dev.projetos.stefano.order.api.services.exceptions.ResourceNotFoundException;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("app.service")
 public class ProductService {
 
+    private static final int DEFAULT_SUGGESTIONS = 10;
+    private static final int MAX_SUGGESTIONS = 20;
+
     private final ProductRepository productRepository;
-    private final CategoryRepository categoryRepository;
     private final CategoryService categoryService;
     private final ProductMapper productMapper;
+    private final ProductCache productCache;
+    private final InventoryService inventoryService;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggester productSuggester;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ProductService(ProductRepository productRepository, CategoryRepository categoryRepository, CategoryService categoryService, ProductMapper productMapper) {
+    public ProductService(ProductRepository productRepository, CategoryService categoryService, ProductMapper productMapper, ProductCache productCache, InventoryService inventoryService, ProductSearchIndex productSearchIndex, ProductSuggester productSuggester, ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
-        this.categoryRepository = categoryRepository;
         this.categoryService = categoryService;
         this.productMapper = productMapper;
+        this.productCache = productCache;
+        this.inventoryService = inventoryService;
+        this.productSearchIndex = productSearchIndex;
+        this.productSuggester = productSuggester;
+        this.eventPublisher = eventPublisher;
     }
 
-    public List<ProductResponse> findAll() {
-        return productRepository.findAll()
-                .stream()
-                .map(productMapper::toResponse)
-                .toList();
+    public PageResponse<ProductResponse> findAll(String after, Integer limit) {
+        int size = Cursor.limit(limit);
+        List<Long> ids = productRepository.findIdsAfter(Cursor.decodeId(after), Limit.of(size + 1));
+
+        Map<Long, ProductResponse> products = findAllById(ids.subList(0, Math.min(size, ids.size())));
+
+        return PageResponse.of(ids, size, products::get, id -> Cursor.encode(id));
+    }
+
+    public PageResponse<ProductResponse> findByCategory(Long categoryId, String after, Integer limit) {
+        categoryService.findById(categoryId);
+
+        int size = Cursor.limit(limit);
+        List<Long> ids = productRepository.findIdsByCategoryAfter(categoryId, Cursor.decodeId(after), size + 1);
+
+        Map<Long, ProductResponse> products = findAllById(ids.subList(0, Math.min(size, ids.size())));
+
+        return PageResponse.of(ids, size, products::get, id -> Cursor.encode(id));
+    }
+
+    public PageResponse<ProductResponse> search(String query, String after, Integer limit) {
+        int size = Cursor.limit(limit);
+        int offset = Cursor.decodeOffset(after);
+
+        // no next page past MAX_OFFSET, whose cursor decodeOffset would reject
+        boolean lastPage = offset + size > Cursor.MAX_OFFSET;
+        List<ProductResponse> products = productSearchIndex.search(query, offset, lastPage ? size : size + 1);
+
+        return PageResponse.of(products, size, Function.identity(), product -> Cursor.encode(offset + size));
+    }
+
+    public List<ProductSuggestionResponse> suggest(String prefix, Integer limit) {
+        int count = limit == null ? DEFAULT_SUGGESTIONS : Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+
+        return productSuggester.suggest(prefix, count);
     }
 
     public ProductResponse findById(Long id) {
-        return productRepository.findById(id)
+        ProductResponse response = productCache.get(id, key -> productRepository.findById(key)
                 .map(productMapper::toResponse)
+                .orElse(null));
+
+        if (response == null) {
+            throw new ResourceNotFoundException(id);
+        }
+
+        return response;
+    }
+
+    public ProductResponse findById(Long id, long minVersion) {
+        ProductResponse response = findById(id);
+
+        if (response.version() == null || response.version() < minVersion) {
+            productCache.invalidate(id);
+            response = findById(id);
+        }
+
+        return response;
+    }
+
+    public long findVersionById(Long id) {
+        return productRepository.findVersionById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(id));
     }
 
+    public Map<Long, ProductResponse> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) return Map.of();
+
+        return productCache.getAll(ids, this::loadAllById);
+    }
+
+    private Map<Long, ProductResponse> loadAllById(Set<? extends Long> ids) {
+        return productRepository.findByIdIn(List.copyOf(ids))
+                .stream()
+                .collect(Collectors.toMap(Product::getId, productMapper::toResponse));
+    }
+
     @Transactional
     public ProductResponse insert(ProductRequest request) {
         Product product = productMapper.toEntity(request);
 
-        List<Category> categories = categoryRepository.findAllById(request.categoriesId());
+        product.getCategories().addAll(categoryService.findEntitiesById(request.categoriesId()));
 
-        if (categories.size() != request.categoriesId().size()) {
-            throw new ResourceNotFoundException("One or more categories not found");
-        }
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(saved.getId()));
 
-        product.getCategories().addAll(categories);
-
-        return productMapper.toResponse(productRepository.save(product));
+        return productMapper.toResponse(saved);
     }
 
     @Transactional
@@ -71,6 +156,7 @@ public class ProductService {
 
             productRepository.deleteById(id);
             productRepository.flush();
+            eventPublisher.publishEvent(new ProductChangedEvent(id));
         } catch (DataIntegrityViolationException e) {
             throw new DatabaseException("Cannot delete: Product has associated records");
         }
@@ -84,14 +170,18 @@ public class ProductService {
             productMapper.updateEntityFromRequest(request, product);
 
             if (request.categoriesId() != null && !request.categoriesId().isEmpty()) {
-                Set<Category> categories = request.categoriesId().stream()
-                        .map(categoryService::findEntityById)
-                        .collect(Collectors.toSet());
+                Set<Category> categories = categoryService.findEntitiesById(request.categoriesId());
 
                 product.getCategories().clear();
                 product.getCategories().addAll(categories);
             }
 
+            if (request.stock() != null) {
+                inventoryService.updateStock(id, request.stock());
+            }
+
+            eventPublisher.publishEvent(new ProductChangedEvent(id));
+
             return productMapper.toResponse(product);
         } catch (EntityNotFoundException e) {
             throw new ResourceNotFoundException(id);
@@ -0,0 +1,315 @@
+package dev.projetos.stefano.order.api.services;
+
+import dev.projetos.stefano.order.api.dtos.response.ProductResponse;
+import dev.projetos.stefano.order.api.dtos.response.SalesEntryResponse;
+import dev.projetos.stefano.order.api.dtos.response.SalesReportResponse;
+import dev.projetos.stefano.order.api.entities.Order;
+import dev.projetos.stefano.order.api.entities.OrderItem;
+import dev.projetos.stefano.order.api.entities.SalesRollupState;
+import dev.projetos.stefano.order.api.entities.enums.OrderStatus;
+import dev.projetos.stefano.order.api.entities.money.Money;
+import dev.projetos.stefano.order.api.repositories.OrderRepository;
+import dev.projetos.stefano.order.api.repositories.ProductDailySalesRepository;
+import dev.projetos.stefano.order.api.repositories.SalesRollupStateRepository;
+import dev.projetos.stefano.order.api.repositories.projections.OrderItemRow;
+import dev.projetos.stefano.order.api.repositories.projections.OrderRow;
+import dev.projetos.stefano.order.api.repositories.projections.SalesRow;
+import dev.projetos.stefano.order.api.rollup.SalesCounters;
+import dev.projetos.stefano.order.api.rollup.SalesDelta;
+import dev.projetos.stefano.order.api.rollup.SalesKey;
+import dev.projetos.stefano.order.api.services.exceptions.InvalidParameterException;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sales reports served from {@code tb_product_daily_sales}, a rollup of units and revenue per product and day
+ * (UTC). Placed and canceled orders only add a delta to the in-memory {@link SalesCounters} once they commit;
+ * the deltas are written to the table in one batched upsert every {@code app.reports.flush-interval} and on
+ * shutdown, and reports add the deltas still in memory to what the table holds.
+ * <p>
+ * Deltas not flushed before a crash are lost. Every start marks the run as unclean and a graceful shutdown marks it
+ * clean after the last flush, so a start that finds the previous run unclean rebuilds the rollup from the orders.
+ */
+@Service
+@Timed("app.service")
+public class SalesReportService {
+
+    private static final Logger log = LoggerFactory.getLogger(SalesReportService.class);
+
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final ProductDailySalesRepository salesRepository;
+    private final SalesRollupStateRepository stateRepository;
+    private final OrderRepository orderRepository;
+    private final ProductService productService;
+    private final SalesCounters salesCounters;
+    private final TransactionTemplate transactionTemplate;
+
+    // flushes and rebuilds hold the write lock; a report that overlapped one is run again under the read lock, so it
+    // never counts a delta both in memory and in the table
+    private final StampedLock rollupLock = new StampedLock();
+
+    public SalesReportService(ProductDailySalesRepository salesRepository, SalesRollupStateRepository stateRepository, OrderRepository orderRepository, ProductService productService, SalesCounters salesCounters, PlatformTransactionManager transactionManager) {
+        this.salesRepository = salesRepository;
+        this.stateRepository = stateRepository;
+        this.orderRepository = orderRepository;
+        this.productService = productService;
+        this.salesCounters = salesCounters;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public SalesReportResponse findSales(LocalDate from, LocalDate to, String groupBy) {
+        if (from.isAfter(to)) {
+            throw new InvalidParameterException("'from' must not be after 'to'");
+        }
+
+        String grouping = groupBy.toLowerCase(Locale.ROOT);
+
+        long stamp = rollupLock.tryOptimisticRead();
+        if (stamp != 0) {
+            SalesReportResponse report = report(from, to, grouping);
+            if (rollupLock.validate(stamp)) return report;
+        }
+
+        stamp = rollupLock.readLock();
+        try {
+            return report(from, to, grouping);
+        } finally {
+            rollupLock.unlockRead(stamp);
+        }
+    }
+
+    private SalesReportResponse report(LocalDate from, LocalDate to, String grouping) {
+        Map<SalesKey, SalesDelta> pending = salesCounters.pending();
+        pending.keySet().removeIf(key -> key.day().isBefore(from) || key.day().isAfter(to));
+
+        List<SalesEntryResponse> entries = switch (grouping) {
+            case "product" -> productEntries(from, to, pending);
+            case "category" -> categoryEntries(from, to, pending);
+            case "day" -> dayEntries(from, to, pending);
+            default -> throw new InvalidParameterException("groupBy must be one of: product, category, day");
+        };
+
+        return new SalesReportResponse(from, to, grouping, entries);
+    }
+
+    public void recordPlaced(Collection<Order> orders) {
+        addAfterCommit(deltasOf(orders, 1));
+    }
+
+    public void recordCanceled(Order order) {
+        addAfterCommit(deltasOf(List.of(order), -1));
+    }
+
+    @Scheduled(fixedDelayString = "${app.reports.flush-interval:5s}")
+    public void flush() {
+        long stamp = rollupLock.writeLock();
+        try {
+            SortedMap<SalesKey, SalesDelta> deltas = salesCounters.drain();
+            if (deltas.isEmpty()) return;
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> salesRepository.addAll(deltas));
+            } catch (RuntimeException e) {
+                salesCounters.addAll(deltas);
+                log.warn("Could not flush {} sales deltas, keeping them for the next attempt", deltas.size(), e);
+            }
+        } finally {
+            rollupLock.unlockWrite(stamp);
+        }
+    }
+
+    @PostConstruct
+    public void recover() {
+        boolean cleanShutdown = stateRepository.findById(SalesRollupState.ID)
+                .map(SalesRollupState::isCleanShutdown)
+                .orElse(false);
+
+        if (!cleanShutdown) {
+            log.warn("Previous run did not flush its sales deltas, rebuilding the sales rollup");
+            rebuild();
+        }
+
+        saveState(false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        if (salesCounters.pending().isEmpty()) saveState(true);
+    }
+
+    /**
+     * Recomputes the rollup from the order tables, one chunk of orders per transaction. Orders placed or canceled
+     * while it runs can be counted twice, so run it when no orders are being written.
+     *
+     * @return the number of orders read
+     */
+    public long rebuild() {
+        long stamp = rollupLock.writeLock();
+        try {
+            salesCounters.drain();
+            transactionTemplate.executeWithoutResult(status -> salesRepository.deleteAllInBatch());
+
+            long processed = 0;
+            long after = 0;
+
+            while (true) {
+                List<Long> ids = orderRepository.findIdsAfter(after, Limit.of(REBUILD_CHUNK_SIZE));
+                if (ids.isEmpty()) return processed;
+
+                transactionTemplate.executeWithoutResult(status -> salesRepository.addAll(deltasOf(
+                        orderRepository.findRowsByIdIn(ids),
+                        orderRepository.findItemRowsByOrderIdIn(ids))));
+
+                processed += ids.size();
+                after = ids.getLast();
+            }
+        } finally {
+            rollupLock.unlockWrite(stamp);
+        }
+    }
+
+    private void addAfterCommit(Map<SalesKey, SalesDelta> deltas) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            salesCounters.addAll(deltas);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                salesCounters.addAll(deltas);
+            }
+        });
+    }
+
+    private void saveState(boolean cleanShutdown) {
+        transactionTemplate.executeWithoutResult(status -> stateRepository.save(new SalesRollupState(cleanShutdown)));
+    }
+
+    private List<SalesEntryResponse> productEntries(LocalDate from, LocalDate to, Map<SalesKey, SalesDelta> pending) {
+        SortedMap<Long, SalesTotal> totals = totalsById(salesRepository.sumByProduct(from, to));
+        Map<Long, SalesDelta> byProduct = sumByProduct(pending);
+        Map<Long, ProductResponse> products = productService.findAllById(byProduct.keySet());
+
+        byProduct.forEach((productId, delta) -> totals.merge(
+                productId,
+                new SalesTotal(products.containsKey(productId) ? products.get(productId).name() : null, delta),
+                SalesTotal::plus));
+
+        return toEntries(totals);
+    }
+
+    private List<SalesEntryResponse> categoryEntries(LocalDate from, LocalDate to, Map<SalesKey, SalesDelta> pending) {
+        SortedMap<Long, SalesTotal> totals = totalsById(salesRepository.sumByCategory(from, to));
+        Map<Long, SalesDelta> byProduct = sumByProduct(pending);
+
+        productService.findAllById(byProduct.keySet()).forEach((productId, product) ->
+                product.categories().forEach(category -> totals.merge(
+                        category.id(),
+                        new SalesTotal(category.name(), byProduct.get(productId)),
+                        SalesTotal::plus)));
+
+        return toEntries(totals);
+    }
+
+    private List<SalesEntryResponse> dayEntries(LocalDate from, LocalDate to, Map<SalesKey, SalesDelta> pending) {
+        SortedMap<LocalDate, SalesDelta> totals = new TreeMap<>();
+        salesRepository.sumByDay(from, to).forEach(row -> totals.put(row.day(), new SalesDelta(row.units(), row.revenue())));
+        pending.forEach((key, delta) -> totals.merge(key.day(), delta, SalesDelta::plus));
+
+        return totals.entrySet()
+                .stream()
+                .map(entry -> new SalesEntryResponse(entry.getKey().toString(), null, entry.getValue().units(), Money.ofMinorUnits(entry.getValue().revenue())))
+                .toList();
+    }
+
+    private static Map<Long, SalesDelta> sumByProduct(Map<SalesKey, SalesDelta> pending) {
+        Map<Long, SalesDelta> byProduct = new HashMap<>();
+        pending.forEach((key, delta) -> byProduct.merge(key.productId(), delta, SalesDelta::plus));
+        return byProduct;
+    }
+
+    private static SortedMap<Long, SalesTotal> totalsById(List<SalesRow> rows) {
+        SortedMap<Long, SalesTotal> totals = new TreeMap<>();
+        rows.forEach(row -> totals.put(row.groupId(), new SalesTotal(row.groupName(), new SalesDelta(row.units(), row.revenue()))));
+        return totals;
+    }
+
+    private static List<SalesEntryResponse> toEntries(SortedMap<Long, SalesTotal> totals) {
+        return totals.entrySet()
+                .stream()
+                .map(entry -> new SalesEntryResponse(entry.getKey().toString(), entry.getValue().name(), entry.getValue().delta().units(), Money.ofMinorUnits(entry.getValue().delta().revenue())))
+                .toList();
+    }
+
+    private static SortedMap<SalesKey, SalesDelta> deltasOf(Collection<Order> orders, int sign) {
+        SortedMap<SalesKey, SalesDelta> deltas = new TreeMap<>();
+
+        for (Order order : orders) {
+            LocalDate day = dayOf(order.getMoment());
+
+            for (OrderItem item : order.getItems()) {
+                deltas.merge(
+                        new SalesKey(day, item.getProduct().getId()),
+                        new SalesDelta((long) sign * item.getQuantity(), sign * item.getSubTotal().minorUnits()),
+                        SalesDelta::plus);
+            }
+        }
+
+        return deltas;
+    }
+
+    private static SortedMap<SalesKey, SalesDelta> deltasOf(List<OrderRow> orders, List<OrderItemRow> items) {
+        Map<Long, OrderRow> byId = orders.stream().collect(Collectors.toMap(OrderRow::id, Function.identity()));
+        SortedMap<SalesKey, SalesDelta> deltas = new TreeMap<>();
+
+        for (OrderItemRow item : items) {
+            OrderRow order = byId.get(item.orderId());
+            if (OrderStatus.valueOf(order.orderStatus()) == OrderStatus.CANCELED) continue;
+
+            deltas.merge(
+                    new SalesKey(dayOf(order.moment()), item.productId()),
+                    new SalesDelta(item.quantity(), item.price().times(item.quantity()).minorUnits()),
+                    SalesDelta::plus);
+        }
+
+        return deltas;
+    }
+
+    private static LocalDate dayOf(Instant moment) {
+        return LocalDate.ofInstant(moment, ZoneOffset.UTC);
+    }
+
+    private record SalesTotal(String name, SalesDelta delta) {
+
+        SalesTotal plus(SalesTotal other) {
+            return new SalesTotal(name != null ? name : other.name, delta.plus(other.delta));
+        }
+    }
+}
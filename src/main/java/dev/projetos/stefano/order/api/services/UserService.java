@@ -2,35 +2,44 @@ package dev.projetos.stefano.order.api.services;
 
 import dev.projetos.stefano.order.api.dtos.request.UserRequest;
 import dev.projetos.stefano.order.api.dtos.request.UserUpdateRequest;
+import dev.projetos.stefano.order.api.dtos.response.PageResponse;
 import dev.projetos.stefano.order.api.dtos.response.UserResponse;
 import dev.projetos.stefano.order.api.entities.User;
 import dev.projetos.stefano.order.api.mapper.UserMapper;
+import dev.projetos.stefano.order.api.pagination.Cursor;
 import dev.projetos.stefano.order.api.repositories.UserRepository;
 import dev.projetos.stefano.order.api.resources.exceptions.DatabaseException;
+import dev.projetos.stefano.order.api.services.events.UserChangedEvent;
 import dev.projetos.stefano.order.api.services.exceptions.ResourceNotFoundException;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
 @Service
+@Timed("app.service")
 public class UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserService(UserRepository userRepository, UserMapper userMapper) {
+    public UserService(UserRepository userRepository, UserMapper userMapper, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
+        this.eventPublisher = eventPublisher;
     }
 
-    public List<UserResponse> findAll() {
-        return userRepository.findAll()
-                .stream()
-                .map(userMapper::toResponse)
-                .toList();
+    public PageResponse<UserResponse> findAll(String after, Integer limit) {
+        int size = Cursor.limit(limit);
+        List<User> rows = userRepository.findByIdGreaterThanOrderByIdAsc(Cursor.decodeId(after), Limit.of(size + 1));
+
+        return PageResponse.of(rows, size, userMapper::toResponse, row -> Cursor.encode(row.getId()));
     }
 
     public UserResponse findById(Long id) {
@@ -39,12 +48,20 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException(id));
     }
 
+    public long findVersionById(Long id) {
+        return userRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(id));
+    }
+
     @Transactional
     public UserResponse insert(UserRequest request) {
         try {
             User user = userMapper.toEntity(request);
 
-            return userMapper.toResponse(userRepository.save(user));
+            User saved = userRepository.save(user);
+            eventPublisher.publishEvent(new UserChangedEvent(saved.getId()));
+
+            return userMapper.toResponse(saved);
         } catch (DataIntegrityViolationException e) {
             throw new DatabaseException("Email already registered");
         }
@@ -59,6 +76,7 @@ public class UserService {
             }
 
             userRepository.deleteById(id);
+            eventPublisher.publishEvent(new UserChangedEvent(id));
         } catch (DataIntegrityViolationException e) {
             throw new DatabaseException("Cannot delete: User has associated records");
         }
@@ -72,7 +90,10 @@ public class UserService {
 
             userMapper.updateEntityFromRequest(request, entity);
 
-            return userMapper.toResponse(userRepository.save(entity));
+            User saved = userRepository.save(entity);
+            eventPublisher.publishEvent(new UserChangedEvent(id));
+
+            return userMapper.toResponse(saved);
         } catch (EntityNotFoundException e) {
             throw new ResourceNotFoundException(id);
         } catch (DataIntegrityViolationException e) {
@@ -0,0 +1,4 @@
+package dev.projetos.stefano.order.api.services.events;
+
+public record UserChangedEvent(Long userId) {
+}
@@ -0,0 +1,12 @@
+package dev.projetos.stefano.order.api.services.exceptions;
+
+import java.io.Serial;
+
+public class InsufficientStockException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = -5170264406573811502L;
+
+    public InsufficientStockException(Long productId) {
+        super("Insufficient stock for product. Id: " + productId);
+    }
+}
@@ -0,0 +1,12 @@
+package dev.projetos.stefano.order.api.services.exceptions;
+
+import java.io.Serial;
+
+public class InvalidParameterException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 3911626370485301776L;
+
+    public InvalidParameterException(String msg) {
+        super(msg);
+    }
+}
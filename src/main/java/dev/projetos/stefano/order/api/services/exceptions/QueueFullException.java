@@ -0,0 +1,12 @@
+package dev.projetos.stefano.order.api.services.exceptions;
+
+import java.io.Serial;
+
+public class QueueFullException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 3817702447128965620L;
+
+    public QueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,128 @@
+package dev.projetos.stefano.order.api.benchmarks;
+
+import dev.projetos.stefano.order.api.dtos.request.ProductUpdateRequest;
+import dev.projetos.stefano.order.api.dtos.validations.AtLeastOneFieldNotNullValidator;
+import dev.projetos.stefano.order.api.entities.Order;
+import dev.projetos.stefano.order.api.entities.OrderItem;
+import dev.projetos.stefano.order.api.entities.enums.OrderStatus;
+import dev.projetos.stefano.order.api.entities.money.Money;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity and validation helpers on the order hot path: totals and item sets for orders of 1, 10 and 100 lines
+ * ({@code OrderItem} equality is {@code OrderItemPK}'s), status code lookups and the partial update validator.
+ * <pre>
+ * ./mvnw test -Pbenchmark -Dtest=EntityBenchmark
+ * </pre>
+ * See {@link JmhRunner} for comparing two commits.
+ */
+@Tag("benchmark")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Orders {
+
+        @Param({"1", "10", "100"})
+        public int lines;
+
+        Order order;
+        List<OrderItem> items;
+        Set<OrderItem> itemSet;
+
+        @Setup
+        public void setUp() {
+            order = OrderFixtures.order(lines);
+            // equal to the ones in the order but not the same instances, as after loading them again
+            items = new ArrayList<>();
+            order.getItems().forEach(item -> items.add(new OrderItem(item.getOrder(), item.getProduct(), item.getQuantity(), item.getPrice())));
+            itemSet = new HashSet<>(order.getItems());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Codes {
+
+        int next;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Updates {
+
+        final AtLeastOneFieldNotNullValidator validator = new AtLeastOneFieldNotNullValidator();
+
+        // the validator stops at the first field set, so only the last one set is the worst case
+        final ProductUpdateRequest firstField = new ProductUpdateRequest("Smart TV", null, null, null, null, null);
+        final ProductUpdateRequest lastField = new ProductUpdateRequest(null, null, null, null, null, 10);
+        final ProductUpdateRequest blankFields = new ProductUpdateRequest(" ", " ", null, " ", null, null);
+    }
+
+    @Benchmark
+    public Money calculateTotal(Orders orders) {
+        orders.order.calculateTotal();
+        return orders.order.getTotal();
+    }
+
+    @Benchmark
+    public Set<OrderItem> buildItemSet(Orders orders) {
+        return new HashSet<>(orders.items);
+    }
+
+    @Benchmark
+    public int findItems(Orders orders) {
+        int found = 0;
+        for (OrderItem item : orders.items) {
+            if (orders.itemSet.contains(item)) found++;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public OrderStatus statusValueOf(Codes codes) {
+        return OrderStatus.valueOf(1 + codes.next++ % 5);
+    }
+
+    @Benchmark
+    public boolean validateFirstField(Updates updates) {
+        return updates.validator.isValid(updates.firstField, null);
+    }
+
+    @Benchmark
+    public boolean validateLastField(Updates updates) {
+        return updates.validator.isValid(updates.lastField, null);
+    }
+
+    @Benchmark
+    public boolean validateBlankFields(Updates updates) {
+        return updates.validator.isValid(updates.blankFields, null);
+    }
+
+    @Test
+    void run() throws RunnerException, IOException {
+        JmhRunner.run(EntityBenchmark.class);
+    }
+}
@@ -0,0 +1,103 @@
+package dev.projetos.stefano.order.api.benchmarks;
+
+import dev.projetos.stefano.order.api.dtos.request.OrderItemRequest;
+import dev.projetos.stefano.order.api.dtos.request.OrderRequest;
+import dev.projetos.stefano.order.api.entities.Product;
+import dev.projetos.stefano.order.api.entities.User;
+import dev.projetos.stefano.order.api.inventory.StripedStock;
+import dev.projetos.stefano.order.api.repositories.ProductRepository;
+import dev.projetos.stefano.order.api.repositories.UserRepository;
+import dev.projetos.stefano.order.api.services.OrderService;
+import dev.projetos.stefano.order.api.support.TestData;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Order placement throughput when every thread buys the same product, with stock reserved row by row
+ * (conditional UPDATE per order) and through the striped in-memory layer.
+ * <pre>
+ * ./mvnw test -Pbenchmark -Dtest=HotProductReservationBenchmark -Dbenchmark.threads=64 -Dbenchmark.orders=200
+ * </pre>
+ */
+@Tag("benchmark")
+@SpringBootTest
+class HotProductReservationBenchmark {
+
+    @Value("${benchmark.threads:32}")
+    private int threads;
+
+    @Value("${benchmark.orders:100}")
+    private int ordersPerThread;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StripedStock stripedStock;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void placeOrdersForOneProduct() throws Exception {
+        User client = TestData.client(userRepository);
+
+        Product rowLocked = newProduct();
+        Product striped = newProduct();
+        stripedStock.track(striped.getId());
+
+        run("warmup", client, rowLocked);
+        run("row lock", client, rowLocked);
+        run("warmup", client, striped);
+        run("striped", client, striped);
+    }
+
+    private Product newProduct() {
+        return TestData.product(productRepository, Integer.MAX_VALUE);
+    }
+
+    private void run(String label, User client, Product product) throws Exception {
+        OrderRequest request = new OrderRequest(client.getId(), List.of(new OrderItemRequest(product.getId(), 1)));
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ordersPerThread; i++) {
+                        orderService.insert(request);
+                    }
+                    return null;
+                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            double seconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+            System.out.printf("[benchmark] %-8s threads=%d orders=%d %.1f orders/s%n", label, threads, threads * ordersPerThread, threads * ordersPerThread / seconds);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
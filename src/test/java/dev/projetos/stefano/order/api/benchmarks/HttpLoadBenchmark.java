@@ -0,0 +1,308 @@
+package dev.projetos.stefano.order.api.benchmarks;
+
+import dev.projetos.stefano.order.api.OrderApiApplication;
+import dev.projetos.stefano.order.api.benchmarks.LatencyRecorder.EndpointStats;
+import dev.projetos.stefano.order.api.benchmarks.LoadGenerator.Call;
+import dev.projetos.stefano.order.api.benchmarks.LoadGenerator.LoadResult;
+import dev.projetos.stefano.order.api.benchmarks.LoadGenerator.Scenario;
+import dev.projetos.stefano.order.api.dtos.request.CategoryRequest;
+import dev.projetos.stefano.order.api.dtos.request.OrderItemRequest;
+import dev.projetos.stefano.order.api.dtos.request.OrderRequest;
+import dev.projetos.stefano.order.api.dtos.request.ProductRequest;
+import dev.projetos.stefano.order.api.dtos.request.UserRequest;
+import dev.projetos.stefano.order.api.dtos.response.OrderBatchResultResponse;
+import dev.projetos.stefano.order.api.services.CategoryService;
+import dev.projetos.stefano.order.api.services.OrderBatchService;
+import dev.projetos.stefano.order.api.services.ProductService;
+import dev.projetos.stefano.order.api.services.UserService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load test against the real endpoints. Boots the application on H2 with the {@code test} profile, seeds
+ * categories, products, users and orders through the services, and then runs a weighted mix of reads and writes over
+ * HTTP. Latency percentiles and throughput per endpoint go to {@code target/load/report.json}.
+ * <pre>
+ * ./mvnw test -Pbenchmark -Dtest=HttpLoadBenchmark
+ * ./mvnw test -Pbenchmark -Dtest=HttpLoadBenchmark -Dload.concurrency=128 -Dload.duration=60s -Dload.orders=20000
+ * ./mvnw test -Pbenchmark -Dtest=HttpLoadBenchmark -Dload.mix=orders.get=80,orders.create=20
+ * </pre>
+ * With {@code -Dload.budget=src/test/resources/load-budget.properties} the run fails when an endpoint exceeds the
+ * limits in that file (see {@link LoadBudget}).
+ */
+@Tag("benchmark")
+class HttpLoadBenchmark {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 64);
+    private static final Duration DURATION = Duration.parse("PT" + System.getProperty("load.duration", "30s"));
+    private static final Duration WARMUP = Duration.parse("PT" + System.getProperty("load.warmup", "10s"));
+    private static final int CATEGORIES = Integer.getInteger("load.categories", 20);
+    private static final int PRODUCTS = Integer.getInteger("load.products", 1000);
+    private static final int USERS = Integer.getInteger("load.users", 200);
+    private static final int ORDERS = Integer.getInteger("load.orders", 5000);
+    private static final int MAX_LINES = Integer.getInteger("load.lines", 5);
+    private static final String MIX = System.getProperty("load.mix",
+            "orders.get=20,orders.list=5,orders.create=10,products.get=20,products.list=5,products.search=5,"
+                    + "users.get=10,users.orders=10,users.create=2,categories.list=5,categories.products=8");
+    private static final Path REPORT = Path.of(System.getProperty("load.report", "target/load/report.json"));
+    private static final String BUDGET = System.getProperty("load.budget");
+
+    private static final String[] WORDS = {
+            "smart", "tv", "notebook", "gamer", "monitor", "cadeira", "mesa", "livro", "fone", "bluetooth",
+            "teclado", "mouse", "camera", "digital", "geladeira", "cafeteira", "tenis", "corrida"};
+
+    private static final int SEED_CHUNK = 500;
+
+    @Test
+    void runMixedLoad() throws Exception {
+        Instant startedAt = Instant.now();
+
+        try (ConfigurableApplicationContext context = start()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            Dataset dataset = seed(context);
+
+            Map<String, Endpoint> endpoints = endpoints(baseUrl, dataset);
+            Map<String, Integer> mix = parseMix(endpoints.keySet());
+            Scenario scenario = weighted(endpoints, mix);
+
+            LoadGenerator loadGenerator = new LoadGenerator();
+            loadGenerator.run(scenario, CONCURRENCY, WARMUP);
+            LoadResult result = loadGenerator.run(scenario, CONCURRENCY, DURATION);
+
+            List<String> violations = BUDGET == null ? List.of() : LoadBudget.load(Path.of(BUDGET)).check(result.endpoints());
+
+            Map<String, String> routes = new LinkedHashMap<>();
+            mix.keySet().forEach(name -> routes.put(name, endpoints.get(name).route()));
+
+            writeReport(new LoadReport(startedAt.toString(), settings(), mix, routes, result.total(), result.endpoints(), BUDGET, violations));
+            print(result, violations);
+
+            assertEquals(mix.size(), result.endpoints().size(), "Some endpoints got no requests");
+            assertTrue(violations.isEmpty(), "Load budget exceeded:\n" + String.join("\n", violations));
+        }
+    }
+
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(OrderApiApplication.class)
+                .profiles("test")
+                // arguments, so they win over application-test.properties
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:load",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.h2.console.enabled=false");
+    }
+
+    private static Dataset seed(ConfigurableApplicationContext context) {
+        Random random = new Random(42);
+        long start = System.nanoTime();
+
+        CategoryService categoryService = context.getBean(CategoryService.class);
+        long[] categoryIds = new long[CATEGORIES];
+        for (int i = 0; i < CATEGORIES; i++) {
+            categoryIds[i] = categoryService.insert(new CategoryRequest("Category " + (i + 1))).id();
+        }
+
+        ProductService productService = context.getBean(ProductService.class);
+        long[] productIds = new long[PRODUCTS];
+        for (int i = 0; i < PRODUCTS; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + (i + 1);
+            List<Long> categories = List.of(categoryIds[random.nextInt(CATEGORIES)]);
+
+            // stock that a whole run cannot sell out, so writes keep measuring placement and not rejections
+            productIds[i] = productService.insert(new ProductRequest(name, "Lorem ipsum dolor sit amet, consectetur adipiscing elit.",
+                    BigDecimal.valueOf(1000 + random.nextInt(500_000), 2), "", categories, 1_000_000_000)).id();
+        }
+
+        UserService userService = context.getBean(UserService.class);
+        long[] userIds = new long[USERS];
+        for (int i = 0; i < USERS; i++) {
+            userIds[i] = userService.insert(new UserRequest("User " + (i + 1), "user" + (i + 1) + "@example.com", "988888888", "123456")).id();
+        }
+
+        OrderBatchService orderBatchService = context.getBean(OrderBatchService.class);
+        List<Long> orderIds = new ArrayList<>(ORDERS);
+        for (int from = 0; from < ORDERS; from += SEED_CHUNK) {
+            List<OrderRequest> chunk = new ArrayList<>(SEED_CHUNK);
+            for (int i = from; i < Math.min(from + SEED_CHUNK, ORDERS); i++) {
+                chunk.add(orderRequest(random, userIds, productIds));
+            }
+            orderBatchService.insertAll(chunk).stream()
+                    .map(OrderBatchResultResponse::orderId)
+                    .filter(Objects::nonNull)
+                    .forEach(orderIds::add);
+        }
+
+        System.out.printf("%n[load] seeded %d categories, %d products, %d users and %d orders in %d ms%n",
+                CATEGORIES, PRODUCTS, USERS, orderIds.size(), (System.nanoTime() - start) / 1_000_000);
+
+        return new Dataset(categoryIds, productIds, userIds, orderIds.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    private static OrderRequest orderRequest(Random random, long[] userIds, long[] productIds) {
+        int lines = 1 + random.nextInt(MAX_LINES);
+        Set<Long> products = new HashSet<>();
+        while (products.size() < Math.min(lines, productIds.length)) {
+            products.add(productIds[random.nextInt(productIds.length)]);
+        }
+
+        List<OrderItemRequest> items = new ArrayList<>();
+        products.forEach(productId -> items.add(new OrderItemRequest(productId, 1 + random.nextInt(3))));
+
+        return new OrderRequest(userIds[random.nextInt(userIds.length)], items);
+    }
+
+    private static Map<String, Endpoint> endpoints(String baseUrl, Dataset dataset) {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+        endpoints.put("orders.get", new Endpoint("GET /orders/{id}",
+                random -> get(baseUrl + "/orders/" + pick(random, dataset.orderIds()))));
+        endpoints.put("orders.list", new Endpoint("GET /orders?status=WAITING_PAYMENT",
+                random -> get(baseUrl + "/orders?status=WAITING_PAYMENT&limit=20")));
+        endpoints.put("orders.create", new Endpoint("POST /orders",
+                random -> post(baseUrl + "/orders", orderJson(random, dataset))));
+        endpoints.put("products.get", new Endpoint("GET /products/{id}",
+                random -> get(baseUrl + "/products/" + pick(random, dataset.productIds()))));
+        endpoints.put("products.list", new Endpoint("GET /products",
+                random -> get(baseUrl + "/products?limit=20")));
+        endpoints.put("products.search", new Endpoint("GET /products/search?q=",
+                random -> get(baseUrl + "/products/search?q=" + WORDS[random.nextInt(WORDS.length)])));
+        endpoints.put("users.get", new Endpoint("GET /users/{id}",
+                random -> get(baseUrl + "/users/" + pick(random, dataset.userIds()))));
+        endpoints.put("users.orders", new Endpoint("GET /users/{id}/orders",
+                random -> get(baseUrl + "/users/" + pick(random, dataset.userIds()) + "/orders?limit=20")));
+        endpoints.put("users.create", new Endpoint("POST /users",
+                random -> post(baseUrl + "/users", "{\"name\":\"Load User\",\"email\":\"" + UUID.randomUUID() + "@example.com\",\"phone\":\"988888888\",\"password\":\"123456\"}")));
+        endpoints.put("categories.list", new Endpoint("GET /categories",
+                random -> get(baseUrl + "/categories")));
+        endpoints.put("categories.products", new Endpoint("GET /categories/{id}/products",
+                random -> get(baseUrl + "/categories/" + pick(random, dataset.categoryIds()) + "/products?limit=20")));
+
+        return endpoints;
+    }
+
+    private static String orderJson(ThreadLocalRandom random, Dataset dataset) {
+        StringBuilder json = new StringBuilder("{\"clientId\":").append(pick(random, dataset.userIds())).append(",\"items\":[");
+        long[] products = random.longs(0, dataset.productIds().length).distinct().limit(1 + random.nextInt(MAX_LINES)).toArray();
+
+        for (int i = 0; i < products.length; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"productId\":").append(dataset.productIds()[(int) products[i]]).append(",\"quantity\":1}");
+        }
+        return json.append("]}").toString();
+    }
+
+    private static Map<String, Integer> parseMix(Set<String> known) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+
+        for (String entry : MIX.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (!known.contains(parts[0])) {
+                throw new IllegalArgumentException("Unknown endpoint '" + parts[0] + "' in load.mix, expected one of " + known);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) mix.put(parts[0], weight);
+        }
+        return mix;
+    }
+
+    private static Scenario weighted(Map<String, Endpoint> endpoints, Map<String, Integer> mix) {
+        String[] names = mix.keySet().toArray(String[]::new);
+        int[] cumulative = new int[names.length];
+
+        int total = 0;
+        for (int i = 0; i < names.length; i++) {
+            total += mix.get(names[i]);
+            cumulative[i] = total;
+        }
+
+        int weights = total;
+        return random -> {
+            int slot = Arrays.binarySearch(cumulative, random.nextInt(weights) + 1);
+            String name = names[slot >= 0 ? slot : -slot - 1];
+            return new Call(name, endpoints.get(name).request().apply(random));
+        };
+    }
+
+    private static long pick(ThreadLocalRandom random, long[] ids) {
+        return ids[random.nextInt(ids.length)];
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET().build();
+    }
+
+    private static HttpRequest post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static Map<String, Object> settings() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("concurrency", CONCURRENCY);
+        settings.put("durationSeconds", DURATION.toSeconds());
+        settings.put("warmupSeconds", WARMUP.toSeconds());
+        settings.put("categories", CATEGORIES);
+        settings.put("products", PRODUCTS);
+        settings.put("users", USERS);
+        settings.put("orders", ORDERS);
+        settings.put("maxLinesPerOrder", MAX_LINES);
+        settings.put("javaVersion", Runtime.version().toString());
+        settings.put("processors", Runtime.getRuntime().availableProcessors());
+        return settings;
+    }
+
+    private static void writeReport(LoadReport report) throws Exception {
+        if (REPORT.getParent() != null) Files.createDirectories(REPORT.getParent());
+
+        Files.writeString(REPORT, JsonMapper.builder()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .build()
+                .writeValueAsString(report));
+    }
+
+    private static void print(LoadResult result, List<String> violations) {
+        System.out.printf("%n[load] concurrency=%d duration=%ds report=%s%n", CONCURRENCY, DURATION.toSeconds(), REPORT.toAbsolutePath());
+        result.endpoints().forEach(stats -> System.out.println("[load] " + stats.format()));
+        System.out.println("[load] " + result.total().format());
+        violations.forEach(violation -> System.out.println("[load] BUDGET EXCEEDED: " + violation));
+        System.out.println();
+    }
+
+    private record Endpoint(String route, Function<ThreadLocalRandom, HttpRequest> request) {
+    }
+
+    private record Dataset(long[] categoryIds, long[] productIds, long[] userIds, long[] orderIds) {
+    }
+
+    record LoadReport(String startedAt, Map<String, Object> settings, Map<String, Integer> mix, Map<String, String> routes,
+                      EndpointStats total, List<EndpointStats> endpoints, String budget, List<String> violations) {
+    }
+}
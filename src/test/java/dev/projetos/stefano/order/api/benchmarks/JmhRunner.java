@@ -0,0 +1,118 @@
+package dev.projetos.stefano.order.api.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs a JMH benchmark class with the GC profiler, so every result also reports bytes allocated per operation
+ * ({@code gc.alloc.rate.norm}), and writes the results as JSON to {@code target/jmh/<class>.json}
+ * ({@code -Dbenchmark.results} changes the directory).
+ * <p>
+ * With {@code -Dbenchmark.baseline=<dir>} the results are also compared with the ones saved there by an earlier run,
+ * which is how two commits are compared:
+ * <pre>
+ * git checkout main    &amp;&amp; ./mvnw test -Pbenchmark -Dtest=ResponseMappingBenchmark -Dbenchmark.results=/tmp/jmh-main
+ * git checkout feature &amp;&amp; ./mvnw test -Pbenchmark -Dtest=ResponseMappingBenchmark -Dbenchmark.baseline=/tmp/jmh-main
+ * </pre>
+ */
+final class JmhRunner {
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private JmhRunner() {
+    }
+
+    static void run(Class<?> benchmark) throws RunnerException, IOException {
+        Path results = Path.of(System.getProperty("benchmark.results", "target/jmh"));
+        Path file = results.resolve(benchmark.getSimpleName() + ".json");
+        Files.createDirectories(results);
+
+        Collection<RunResult> runResults = new Runner(new OptionsBuilder()
+                .include(benchmark.getName())
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(file.toString())
+                .build())
+                .run();
+
+        String baseline = System.getProperty("benchmark.baseline");
+        if (baseline != null) {
+            compare(Path.of(baseline).resolve(file.getFileName()), runResults);
+        }
+    }
+
+    private static void compare(Path baselineFile, Collection<RunResult> runResults) throws IOException {
+        if (!Files.exists(baselineFile)) {
+            System.out.printf("%n[benchmark] no baseline at %s%n", baselineFile);
+            return;
+        }
+
+        Map<String, double[]> baseline = new HashMap<>();
+        JsonNode nodes = JsonMapper.builder().build().readTree(Files.readString(baselineFile));
+        for (int i = 0; i < nodes.size(); i++) {
+            JsonNode node = nodes.get(i);
+            Map<String, String> params = new TreeMap<>();
+            node.path("params").properties().forEach(param -> params.put(param.getKey(), param.getValue().asString()));
+
+            baseline.put(key(node.path("benchmark").asString(), params), new double[]{
+                    node.path("primaryMetric").path("score").asDouble(),
+                    allocation(node.path("secondaryMetrics"))});
+        }
+
+        System.out.printf("%n[benchmark] compared with %s%n", baselineFile);
+        System.out.printf("[benchmark] %-70s %14s %14s %8s %12s %12s%n", "benchmark", "baseline", "current", "change", "B/op before", "B/op after");
+
+        for (RunResult runResult : runResults) {
+            Map<String, String> params = new TreeMap<>();
+            runResult.getParams().getParamsKeys().forEach(name -> params.put(name, runResult.getParams().getParam(name)));
+
+            String key = key(runResult.getParams().getBenchmark(), params);
+            double score = runResult.getPrimaryResult().getScore();
+            double allocation = allocation(runResult.getSecondaryResults());
+            double[] before = baseline.get(key);
+
+            if (before == null) {
+                System.out.printf("[benchmark] %-70s %14s %14.3f %8s %12s %12.1f%n", key, "-", score, "new", "-", allocation);
+            } else {
+                System.out.printf("[benchmark] %-70s %14.3f %14.3f %+7.1f%% %12.1f %12.1f%n",
+                        key, before[0], score, (score - before[0]) / before[0] * 100, before[1], allocation);
+            }
+        }
+        System.out.println();
+    }
+
+    private static String key(String benchmark, Map<String, String> params) {
+        String name = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+        return params.isEmpty() ? name : name + params;
+    }
+
+    // older JMH versions prefix secondary metric names with "·"
+    private static double allocation(JsonNode secondaryMetrics) {
+        for (Map.Entry<String, JsonNode> metric : secondaryMetrics.properties()) {
+            if (metric.getKey().endsWith(ALLOCATION)) return metric.getValue().path("score").asDouble();
+        }
+        return Double.NaN;
+    }
+
+    private static double allocation(Map<String, Result> secondaryResults) {
+        for (Map.Entry<String, Result> metric : secondaryResults.entrySet()) {
+            if (metric.getKey().endsWith(ALLOCATION)) return metric.getValue().getScore();
+        }
+        return Double.NaN;
+    }
+}
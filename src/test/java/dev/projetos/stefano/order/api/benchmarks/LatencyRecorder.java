@@ -0,0 +1,57 @@
+package dev.projetos.stefano.order.api.benchmarks;
+
+import java.util.Arrays;
+
+/**
+ * Every latency of one endpoint, kept whole (8 bytes per request) so percentiles are exact. Not thread-safe: each
+ * client records into its own and they are merged at the end.
+ */
+final class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+
+    void record(long nanos, boolean ok) {
+        if (count == latencies.length) latencies = Arrays.copyOf(latencies, count * 2);
+        latencies[count++] = nanos;
+        if (!ok) errors++;
+    }
+
+    void merge(LatencyRecorder other) {
+        for (int i = 0; i < other.count; i++) {
+            record(other.latencies[i], true);
+        }
+        errors += other.errors;
+    }
+
+    int count() {
+        return count;
+    }
+
+    EndpointStats stats(String endpoint, double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+
+        return new EndpointStats(endpoint, count, errors, count / seconds,
+                millis(sorted, 0.50), millis(sorted, 0.95), millis(sorted, 0.99), count == 0 ? 0 : sorted[count - 1] / 1e6);
+    }
+
+    private static double millis(long[] sorted, double quantile) {
+        if (sorted.length == 0) return 0;
+        return sorted[(int) Math.ceil(quantile * sorted.length) - 1] / 1e6;
+    }
+
+    record EndpointStats(String endpoint, long requests, long errors, double throughput,
+                         double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+
+        double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+
+        String format() {
+            return String.format("%-28s %8d req %9.1f req/s  p50=%7.2f ms  p95=%7.2f ms  p99=%7.2f ms  max=%8.2f ms  errors=%d",
+                    endpoint, requests, throughput, p50Ms, p95Ms, p99Ms, maxMs, errors);
+        }
+    }
+}
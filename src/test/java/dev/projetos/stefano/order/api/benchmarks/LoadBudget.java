@@ -0,0 +1,72 @@
+package dev.projetos.stefano.order.api.benchmarks;
+
+import dev.projetos.stefano.order.api.benchmarks.LatencyRecorder.EndpointStats;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Limits a load run must stay within, read from a properties file with one {@code <endpoint>.<limit>} entry per line:
+ * {@code p50}, {@code p95}, {@code p99} and {@code max} in milliseconds, {@code min-throughput} in requests per
+ * second and {@code max-error-rate} between 0 and 1. Entries under {@code default.} apply to every endpoint without
+ * its own.
+ * <pre>
+ * default.p99=250
+ * orders.create.p99=500
+ * orders.create.max-error-rate=0.001
+ * </pre>
+ */
+final class LoadBudget {
+
+    private static final String DEFAULT = "default";
+
+    private final Properties limits;
+
+    private LoadBudget(Properties limits) {
+        this.limits = limits;
+    }
+
+    static LoadBudget load(Path file) throws IOException {
+        Properties limits = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            limits.load(reader);
+        }
+        return new LoadBudget(limits);
+    }
+
+    List<String> check(List<EndpointStats> endpoints) {
+        List<String> violations = new ArrayList<>();
+
+        for (EndpointStats stats : endpoints) {
+            atMost(violations, stats, "p50", stats.p50Ms(), "ms");
+            atMost(violations, stats, "p95", stats.p95Ms(), "ms");
+            atMost(violations, stats, "p99", stats.p99Ms(), "ms");
+            atMost(violations, stats, "max", stats.maxMs(), "ms");
+            atMost(violations, stats, "max-error-rate", stats.errorRate(), "");
+
+            Double minThroughput = limit(stats.endpoint(), "min-throughput");
+            if (minThroughput != null && stats.throughput() < minThroughput) {
+                violations.add(String.format("%s throughput %.1f req/s is below %.1f req/s", stats.endpoint(), stats.throughput(), minThroughput));
+            }
+        }
+
+        return violations;
+    }
+
+    private void atMost(List<String> violations, EndpointStats stats, String name, double value, String unit) {
+        Double limit = limit(stats.endpoint(), name);
+        if (limit != null && value > limit) {
+            violations.add(String.format("%s %s %.3f%s is above %.3f%s", stats.endpoint(), name, value, unit, limit, unit));
+        }
+    }
+
+    private Double limit(String endpoint, String name) {
+        String value = limits.getProperty(endpoint + "." + name, limits.getProperty(DEFAULT + "." + name));
+        return value == null ? null : Double.valueOf(value.trim());
+    }
+}
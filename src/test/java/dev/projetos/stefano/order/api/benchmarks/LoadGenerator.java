@@ -0,0 +1,92 @@
+package dev.projetos.stefano.order.api.benchmarks;
+
+import dev.projetos.stefano.order.api.benchmarks.LatencyRecorder.EndpointStats;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop HTTP load: {@code concurrency} clients, each sending its next request as soon as the previous one is
+ * answered, for a fixed duration. Requests come from a {@link Scenario} and latencies are recorded per endpoint.
+ * Responses of 400 and above, and requests that fail to complete, count as errors.
+ */
+final class LoadGenerator {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    LoadResult run(Scenario scenario, int concurrency, Duration duration) throws InterruptedException, ExecutionException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Map<String, LatencyRecorder>>> clients = new ArrayList<>(concurrency);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                clients.add(executor.submit(() -> drive(scenario, deadline)));
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Map<String, LatencyRecorder> merged = new TreeMap<>();
+        LatencyRecorder total = new LatencyRecorder();
+        for (Future<Map<String, LatencyRecorder>> c : clients) {
+            for (Map.Entry<String, LatencyRecorder> endpoint : c.get().entrySet()) {
+                merged.computeIfAbsent(endpoint.getKey(), key -> new LatencyRecorder()).merge(endpoint.getValue());
+                total.merge(endpoint.getValue());
+            }
+        }
+
+        List<EndpointStats> endpoints = merged.entrySet().stream()
+                .map(endpoint -> endpoint.getValue().stats(endpoint.getKey(), seconds))
+                .toList();
+
+        return new LoadResult(seconds, total.stats("total", seconds), endpoints);
+    }
+
+    private Map<String, LatencyRecorder> drive(Scenario scenario, long deadline) throws InterruptedException {
+        Map<String, LatencyRecorder> recorders = new HashMap<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < deadline) {
+            Call call = scenario.next(random);
+            LatencyRecorder recorder = recorders.computeIfAbsent(call.endpoint(), endpoint -> new LatencyRecorder());
+
+            long sent = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(call.request(), HttpResponse.BodyHandlers.discarding());
+                recorder.record(System.nanoTime() - sent, response.statusCode() < 400);
+            } catch (IOException e) {
+                recorder.record(System.nanoTime() - sent, false);
+            }
+        }
+        return recorders;
+    }
+
+    @FunctionalInterface
+    interface Scenario {
+
+        Call next(ThreadLocalRandom random);
+    }
+
+    record Call(String endpoint, HttpRequest request) {
+    }
+
+    record LoadResult(double seconds, EndpointStats total, List<EndpointStats> endpoints) {
+    }
+}
@@ -0,0 +1,47 @@
+package dev.projetos.stefano.order.api.benchmarks;
+
+import dev.projetos.stefano.order.api.entities.Category;
+import dev.projetos.stefano.order.api.entities.Order;
+import dev.projetos.stefano.order.api.entities.OrderItem;
+import dev.projetos.stefano.order.api.entities.Payment;
+import dev.projetos.stefano.order.api.entities.Product;
+import dev.projetos.stefano.order.api.entities.User;
+import dev.projetos.stefano.order.api.entities.enums.OrderStatus;
+import dev.projetos.stefano.order.api.entities.money.Money;
+
+import java.time.Instant;
+
+/**
+ * Detached entities shaped like the ones loaded for {@code GET /orders/{id}}: a paid order with a client, a payment
+ * and {@code lines} items, each for a different product in two categories.
+ */
+final class OrderFixtures {
+
+    private static final Instant MOMENT = Instant.parse("2019-06-20T19:53:07Z");
+
+    private OrderFixtures() {
+    }
+
+    static Order order(int lines) {
+        User client = new User(1L, "Maria Brown", "maria@gmail.com", "988888888", "123456");
+        Order order = new Order(1L, MOMENT, OrderStatus.PAID, client);
+
+        for (int i = 0; i < lines; i++) {
+            Product product = product(i + 1L);
+            order.getItems().add(new OrderItem(order, product, 1 + i % 3, product.getPrice()));
+        }
+
+        order.calculateTotal();
+        order.setPayment(new Payment(1L, MOMENT.plusSeconds(7200), order));
+        return order;
+    }
+
+    static Product product(long id) {
+        Product product = new Product(id, "Product " + id, "Lorem ipsum dolor sit amet, consectetur adipiscing elit.",
+                Money.ofMinorUnits(1990 + id * 100), "https://cdn.example.com/products/" + id + ".jpg", 100);
+
+        product.getCategories().add(new Category(1L, "Electronics"));
+        product.getCategories().add(new Category(3L, "Computers"));
+        return product;
+    }
+}
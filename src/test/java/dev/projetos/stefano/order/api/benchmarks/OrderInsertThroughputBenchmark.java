@@ -0,0 +1,90 @@
+package dev.projetos.stefano.order.api.benchmarks;
+
+import dev.projetos.stefano.order.api.dtos.request.OrderItemRequest;
+import dev.projetos.stefano.order.api.dtos.request.OrderRequest;
+import dev.projetos.stefano.order.api.dtos.response.OrderBatchResultResponse;
+import dev.projetos.stefano.order.api.entities.Product;
+import dev.projetos.stefano.order.api.entities.User;
+import dev.projetos.stefano.order.api.repositories.ProductRepository;
+import dev.projetos.stefano.order.api.repositories.UserRepository;
+import dev.projetos.stefano.order.api.services.OrderBatchService;
+import dev.projetos.stefano.order.api.support.TestData;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Insert throughput for OrderItem-heavy orders.
+ * <p>
+ * Compare with batching off (one round trip per row, as with IDENTITY ids) and on:
+ * <pre>
+ * ./mvnw test -Pbenchmark -Dtest=OrderInsertThroughputBenchmark -Dspring.jpa.properties.hibernate.jdbc.batch_size=1
+ * ./mvnw test -Pbenchmark -Dtest=OrderInsertThroughputBenchmark
+ * </pre>
+ * Sizes can be changed with -Dbenchmark.orders and -Dbenchmark.lines.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderInsertThroughputBenchmark {
+
+    private static final int WARMUP_ORDERS = 200;
+
+    @Value("${benchmark.orders:2000}")
+    private int orders;
+
+    @Value("${benchmark.lines:20}")
+    private int lines;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @Autowired
+    private OrderBatchService orderBatchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void insertOrders() {
+        User client = TestData.client(userRepository);
+
+        List<Product> products = TestData.products(productRepository, lines);
+
+        List<OrderItemRequest> items = products.stream()
+                .map(p -> new OrderItemRequest(p.getId(), 1))
+                .toList();
+
+        List<OrderRequest> requests = Collections.nCopies(orders, new OrderRequest(client.getId(), items));
+
+        orderBatchService.insertAll(requests.subList(0, Math.min(WARMUP_ORDERS, orders)));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        List<OrderBatchResultResponse> results = orderBatchService.insertAll(requests);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        assertTrue(results.stream().allMatch(r -> r.orderId() != null));
+
+        System.out.printf("%n[benchmark] jdbc.batch_size=%d orders=%d lines/order=%d%n", batchSize, orders, lines);
+        System.out.printf("[benchmark] %.1f orders/s, %.1f rows/s, %.2f s total%n", orders / seconds, orders * (lines + 1) / seconds, seconds);
+        System.out.printf("[benchmark] entity inserts=%d, prepared statements=%d%n%n", statistics.getEntityInsertCount(), statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,89 @@
+package dev.projetos.stefano.order.api.benchmarks;
+
+import dev.projetos.stefano.order.api.dtos.response.ProductSuggestionResponse;
+import dev.projetos.stefano.order.api.search.PrefixIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Autocomplete latency over a synthetic catalog of 100k and 1M products, for prefixes of one to four characters
+ * (short prefixes match the most names and are the worst case for ranking).
+ * <pre>
+ * ./mvnw test -Pbenchmark -Dtest=ProductSuggestBenchmark
+ * </pre>
+ * See {@link JmhRunner} for comparing two commits.
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ProductSuggestBenchmark {
+
+    private static final String[] WORDS = {
+            "smart", "tv", "lâmpada", "led", "macbook", "pro", "notebook", "gamer", "monitor", "cadeira",
+            "mesa", "livro", "senhor", "anéis", "fone", "bluetooth", "teclado", "mecânico", "mouse", "sem", "fio",
+            "câmera", "digital", "geladeira", "frost", "free", "cafeteira", "elétrica", "tênis", "corrida"};
+
+    private static final int PREFIXES = 1024;
+
+    @Param({"100000", "1000000"})
+    public int products;
+
+    private PrefixIndex index;
+    private String[] prefixes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        long[] ids = new long[products];
+        String[] names = new String[products];
+        long[] weights = new long[products];
+
+        for (int i = 0; i < products; i++) {
+            ids[i] = i + 1;
+            names[i] = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + (i + 1);
+            // a few best sellers and a long tail, as in a real catalog
+            weights[i] = (long) (1000 / Math.pow(1 + random.nextInt(products), 0.5));
+        }
+
+        index = PrefixIndex.build(ids, names, weights);
+
+        prefixes = new String[PREFIXES];
+        for (int i = 0; i < PREFIXES; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            prefixes[i] = word.substring(0, 1 + random.nextInt(Math.min(4, word.length())));
+        }
+    }
+
+    @Benchmark
+    public List<ProductSuggestionResponse> suggest() {
+        return index.top(prefixes[next++ & (PREFIXES - 1)], 10);
+    }
+
+    @Test
+    void run() throws RunnerException, IOException {
+        JmhRunner.run(ProductSuggestBenchmark.class);
+    }
+}
@@ -0,0 +1,105 @@
+package dev.projetos.stefano.order.api.benchmarks;
+
+import dev.projetos.stefano.order.api.dtos.response.OrderResponse;
+import dev.projetos.stefano.order.api.dtos.response.ProductResponse;
+import dev.projetos.stefano.order.api.entities.Order;
+import dev.projetos.stefano.order.api.entities.Product;
+import dev.projetos.stefano.order.api.mapper.CategoryMapper;
+import dev.projetos.stefano.order.api.mapper.OrderMapper;
+import dev.projetos.stefano.order.api.mapper.ProductMapper;
+import dev.projetos.stefano.order.api.mapper.UserMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning loaded entities into responses and responses into JSON, for orders of 1, 10 and 100 lines.
+ * <pre>
+ * ./mvnw test -Pbenchmark -Dtest=ResponseMappingBenchmark
+ * </pre>
+ * See {@link JmhRunner} for comparing two commits.
+ */
+@Tag("benchmark")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    private static final ObjectWriter WRITER = JsonMapper.builder().build().writer();
+
+    @State(Scope.Benchmark)
+    public static class Orders {
+
+        @Param({"1", "10", "100"})
+        public int lines;
+
+        final OrderMapper orderMapper = new OrderMapper(new UserMapper());
+
+        Order order;
+        OrderResponse response;
+
+        @Setup
+        public void setUp() {
+            order = OrderFixtures.order(lines);
+            response = orderMapper.toResponse(order);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Products {
+
+        final ProductMapper productMapper = new ProductMapper(new CategoryMapper());
+
+        Product product;
+        ProductResponse response;
+
+        @Setup
+        public void setUp() {
+            product = OrderFixtures.product(1L);
+            response = productMapper.toResponse(product);
+        }
+    }
+
+    @Benchmark
+    public OrderResponse orderToResponse(Orders orders) {
+        return orders.orderMapper.toResponse(orders.order);
+    }
+
+    @Benchmark
+    public byte[] orderResponseToJson(Orders orders) {
+        return WRITER.writeValueAsBytes(orders.response);
+    }
+
+    @Benchmark
+    public ProductResponse productToResponse(Products products) {
+        return products.productMapper.toResponse(products.product);
+    }
+
+    @Benchmark
+    public byte[] productResponseToJson(Products products) {
+        return WRITER.writeValueAsBytes(products.response);
+    }
+
+    @Test
+    void run() throws RunnerException, IOException {
+        JmhRunner.run(ResponseMappingBenchmark.class);
+    }
+}
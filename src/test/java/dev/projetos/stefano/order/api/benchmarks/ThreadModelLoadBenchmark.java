@@ -0,0 +1,103 @@
+package dev.projetos.stefano.order.api.benchmarks;
+
+import dev.projetos.stefano.order.api.OrderApiApplication;
+import dev.projetos.stefano.order.api.benchmarks.LoadGenerator.Call;
+import dev.projetos.stefano.order.api.benchmarks.LoadGenerator.Scenario;
+import dev.projetos.stefano.order.api.entities.Product;
+import dev.projetos.stefano.order.api.entities.money.Money;
+import dev.projetos.stefano.order.api.inventory.StripedStock;
+import dev.projetos.stefano.order.api.repositories.ProductRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Throughput and p99 of {@code GET /orders/{id}} and {@code POST /orders}, for a regular and for a hot product
+ * reserved in {@link StripedStock}, with request handling on platform threads and then on virtual threads. Each mode
+ * boots the application on its own H2 database with the {@code test} profile and drives it over HTTP with
+ * {@code benchmark.concurrency} clients, each sending its next request as soon as the previous one is answered.
+ * <pre>
+ * ./mvnw test -Pbenchmark -Dtest=ThreadModelLoadBenchmark
+ * ./mvnw test -Pbenchmark -Dtest=ThreadModelLoadBenchmark -Dbenchmark.concurrency=1000 -Dbenchmark.duration=30s
+ * </pre>
+ * Connection pool and semaphore can be changed with -Dspring.datasource.hikari.maximum-pool-size and
+ * -Dapp.datasource.max-concurrency. Clients above Tomcat's 200 platform threads are where the modes differ.
+ */
+@Tag("benchmark")
+class ThreadModelLoadBenchmark {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 400);
+    private static final Duration DURATION = Duration.parse("PT" + System.getProperty("benchmark.duration", "15s"));
+    private static final Duration WARMUP = Duration.parse("PT" + System.getProperty("benchmark.warmup", "5s"));
+
+    // orders seeded by TestConfig
+    private static final int SEEDED_ORDERS = 3;
+
+    private final LoadGenerator loadGenerator = new LoadGenerator();
+
+    @Test
+    void compareThreadModels() throws Exception {
+        List<String> report = new ArrayList<>();
+
+        for (boolean virtual : new boolean[]{false, true}) {
+            String mode = virtual ? "virtual" : "platform";
+
+            try (ConfigurableApplicationContext context = start(virtual)) {
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                long productId = saveProduct(context, "Load Product");
+                long hotProductId = saveProduct(context, "Hot Load Product");
+                context.getBean(StripedStock.class).track(hotProductId);
+
+                Scenario findById = random -> new Call("GET /orders/{id}", HttpRequest.newBuilder(URI.create(baseUrl + "/orders/" + (1 + random.nextInt(SEEDED_ORDERS))))
+                        .GET()
+                        .build());
+                Scenario insert = insert(baseUrl, "POST /orders", productId);
+                Scenario insertHot = insert(baseUrl, "POST /orders (hot product)", hotProductId);
+
+                loadGenerator.run(findById, CONCURRENCY, WARMUP);
+                report.add(mode + " " + loadGenerator.run(findById, CONCURRENCY, DURATION).endpoints().getFirst().format());
+
+                loadGenerator.run(insert, CONCURRENCY, WARMUP);
+                report.add(mode + " " + loadGenerator.run(insert, CONCURRENCY, DURATION).endpoints().getFirst().format());
+
+                loadGenerator.run(insertHot, CONCURRENCY, WARMUP);
+                report.add(mode + " " + loadGenerator.run(insertHot, CONCURRENCY, DURATION).endpoints().getFirst().format());
+            }
+        }
+
+        System.out.printf("%n[benchmark] concurrency=%d duration=%ds%n", CONCURRENCY, DURATION.toSeconds());
+        report.forEach(line -> System.out.println("[benchmark] " + line));
+        System.out.println();
+    }
+
+    private static long saveProduct(ConfigurableApplicationContext context, String name) {
+        return context.getBean(ProductRepository.class)
+                .save(new Product(null, name, "Lorem ipsum dolor sit amet, consectetur.", Money.of("10.0"), "", 1_000_000_000))
+                .getId();
+    }
+
+    private static Scenario insert(String baseUrl, String endpoint, long productId) {
+        return random -> new Call(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + "/orders"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"clientId\":" + (1 + random.nextInt(2)) + ",\"items\":[{\"productId\":" + productId + ",\"quantity\":1}]}"))
+                .build());
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtual) {
+        return new SpringApplicationBuilder(OrderApiApplication.class)
+                .profiles("test")
+                // arguments, so they win over application-test.properties
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + (virtual ? "virtual" : "platform"),
+                        "--spring.jpa.show-sql=false",
+                        "--spring.h2.console.enabled=false",
+                        "--spring.threads.virtual.enabled=" + virtual);
+    }
+}
@@ -0,0 +1,91 @@
+package dev.projetos.stefano.order.api.cache;
+
+import dev.projetos.stefano.order.api.dtos.response.CategoryResponse;
+import dev.projetos.stefano.order.api.entities.Category;
+import dev.projetos.stefano.order.api.mapper.CategoryMapper;
+import dev.projetos.stefano.order.api.repositories.CategoryRepository;
+import dev.projetos.stefano.order.api.services.events.CategoryChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryCatalogTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private CategoryCatalog categoryCatalog;
+
+    @BeforeEach
+    void setUp() {
+        categoryCatalog = new CategoryCatalog(categoryRepository, new CategoryMapper());
+    }
+
+    @Test
+    void findById_whenCalledRepeatedly_shouldLoadTableOnlyOnce() {
+        // Given
+        when(categoryRepository.findAll(Sort.by("id"))).thenReturn(List.of(new Category(1L, "Electronics"), new Category(2L, "Books")));
+
+        // When
+        categoryCatalog.findById(1L);
+        Optional<CategoryResponse> result = categoryCatalog.findById(2L);
+
+        // Then
+        assertEquals(Optional.of(new CategoryResponse(2L, "Books")), result);
+        verify(categoryRepository, times(1)).findAll(Sort.by("id"));
+    }
+
+    @Test
+    void findAfter_shouldReturnCategoriesAfterTheGivenIdInIdOrder() {
+        // Given
+        when(categoryRepository.findAll(Sort.by("id"))).thenReturn(List.of(new Category(5L, "Computers"), new Category(1L, "Electronics"), new Category(3L, "Books")));
+
+        // When
+        List<CategoryResponse> fromStart = categoryCatalog.findAfter(0L, 2);
+        List<CategoryResponse> afterGap = categoryCatalog.findAfter(2L, 10);
+        List<CategoryResponse> afterLast = categoryCatalog.findAfter(5L, 10);
+
+        // Then
+        assertEquals(List.of(1L, 3L), fromStart.stream().map(CategoryResponse::id).toList());
+        assertEquals(List.of(3L, 5L), afterGap.stream().map(CategoryResponse::id).toList());
+        assertTrue(afterLast.isEmpty());
+    }
+
+    @Test
+    void onCategoryChanged_shouldSwapInNewSnapshotWithoutReloadingTable() {
+        // Given
+        when(categoryRepository.findAll(Sort.by("id"))).thenReturn(List.of(new Category(1L, "Electronics"), new Category(2L, "Books")));
+        List<CategoryResponse> before = categoryCatalog.findAfter(0L, 10);
+
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(new Category(1L, "Eletronics & Games")));
+        when(categoryRepository.findById(2L)).thenReturn(Optional.empty());
+
+        // When
+        categoryCatalog.onCategoryChanged(new CategoryChangedEvent(1L));
+        categoryCatalog.onCategoryChanged(new CategoryChangedEvent(2L));
+
+        // Then
+        assertEquals(List.of(new CategoryResponse(1L, "Eletronics & Games")), categoryCatalog.findAfter(0L, 10));
+        assertEquals(2, before.size());
+        verify(categoryRepository, times(1)).findAll(Sort.by("id"));
+    }
+
+    @Test
+    void onCategoryChanged_whenNothingLoadedYet_shouldNotQueryDatabase() {
+        // When
+        categoryCatalog.onCategoryChanged(new CategoryChangedEvent(1L));
+
+        // Then
+        verifyNoInteractions(categoryRepository);
+    }
+}
@@ -0,0 +1,85 @@
+package dev.projetos.stefano.order.api.configs;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Test
+    void getConnection_whenAllPermitsAreHeld_shouldTimeOutWithoutAskingThePool() throws SQLException {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        BoundedDataSource dataSource = new BoundedDataSource(target, 1, Duration.ofMillis(10));
+        dataSource.getConnection();
+
+        // When/Then
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        verify(target, times(1)).getConnection();
+    }
+
+    @Test
+    void close_shouldReturnThePermitOnce() throws SQLException {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        BoundedDataSource dataSource = new BoundedDataSource(target, 2, Duration.ofMillis(10));
+        Connection held = dataSource.getConnection();
+
+        // When
+        held.close();
+        held.close();
+
+        // Then
+        assertEquals(2, dataSource.availablePermits());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void getConnection_whenThePoolFails_shouldReturnThePermit() throws SQLException {
+        // Given
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+        BoundedDataSource dataSource = new BoundedDataSource(target, 1, Duration.ofMillis(10));
+
+        // When/Then
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(1, dataSource.availablePermits());
+    }
+
+    @Test
+    void getConnection_whenThreadAlreadyHoldsOne_shouldTakeANestedPermit() throws SQLException {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        BoundedDataSource dataSource = new BoundedDataSource(target, 1, 1, Duration.ofMillis(10));
+        Connection outer = dataSource.getConnection();
+
+        // When
+        Connection nested = dataSource.getConnection();
+
+        // Then
+        assertEquals(0, dataSource.availablePermits());
+        assertEquals(0, dataSource.availableNestedPermits());
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        nested.close();
+        outer.close();
+        assertEquals(1, dataSource.availablePermits());
+        assertEquals(1, dataSource.availableNestedPermits());
+    }
+}
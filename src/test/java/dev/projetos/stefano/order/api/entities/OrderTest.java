@@ -0,0 +1,26 @@
+package dev.projetos.stefano.order.api.entities;
+
+import dev.projetos.stefano.order.api.entities.enums.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderTest {
+
+    @Test
+    void getOrderStatus_whenNeverSet_shouldBeWaitingPayment() {
+        // When/Then
+        assertEquals(OrderStatus.WAITING_PAYMENT, new Order().getOrderStatus());
+    }
+
+    @Test
+    void setOrderStatus_whenNull_shouldThrowNullPointerException() {
+        // Given
+        Order order = new Order();
+        order.setOrderStatus(OrderStatus.PAID);
+
+        // When/Then
+        assertThrows(NullPointerException.class, () -> order.setOrderStatus(null));
+        assertEquals(OrderStatus.PAID, order.getOrderStatus());
+    }
+}
@@ -0,0 +1,31 @@
+package dev.projetos.stefano.order.api.entities.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Currency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyConverterTest {
+
+    private final MoneyConverter converter = new MoneyConverter();
+
+    @Test
+    void convertToDatabaseColumn_shouldRoundTripDefaultCurrency() {
+        // When
+        Long column = converter.convertToDatabaseColumn(Money.of("90.5"));
+
+        // Then
+        assertEquals(9050L, column);
+        assertEquals(Money.of("90.5"), converter.convertToEntityAttribute(column));
+    }
+
+    @Test
+    void convertToDatabaseColumn_whenCurrencyIsNotDefault_shouldThrowIllegalArgumentException() {
+        // Given
+        Money dollars = new Money(9050, Currency.getInstance("USD"));
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToDatabaseColumn(dollars));
+    }
+}
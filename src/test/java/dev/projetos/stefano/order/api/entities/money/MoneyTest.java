@@ -0,0 +1,44 @@
+package dev.projetos.stefano.order.api.entities.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void of_shouldStoreAmountInMinorUnits() {
+        // When
+        Money money = Money.of("90.5");
+
+        // Then
+        assertEquals(9050L, money.minorUnits());
+        assertEquals(new BigDecimal("90.50"), money.toDecimal());
+    }
+
+    @Test
+    void of_whenAmountHasMoreThanTwoDecimals_shouldThrowArithmeticException() {
+        // When/Then
+        assertThrows(ArithmeticException.class, () -> Money.of("10.999"));
+    }
+
+    @Test
+    void plusAndTimes_shouldBeExact() {
+        // Given
+        Money price = Money.of("0.1");
+
+        // When
+        Money total = price.times(3).plus(Money.of("0.2"));
+
+        // Then
+        assertEquals(Money.of("0.5"), total);
+    }
+
+    @Test
+    void times_whenResultOverflows_shouldThrowArithmeticException() {
+        // When/Then
+        assertThrows(ArithmeticException.class, () -> Money.ofMinorUnits(Long.MAX_VALUE).times(2));
+    }
+}
@@ -0,0 +1,81 @@
+package dev.projetos.stefano.order.api.intake;
+
+import dev.projetos.stefano.order.api.dtos.request.OrderItemRequest;
+import dev.projetos.stefano.order.api.dtos.request.OrderRequest;
+import dev.projetos.stefano.order.api.dtos.response.OrderBatchResultResponse;
+import dev.projetos.stefano.order.api.dtos.response.OrderRequestStatusResponse;
+import dev.projetos.stefano.order.api.metrics.OrderMetrics;
+import dev.projetos.stefano.order.api.services.OrderService;
+import dev.projetos.stefano.order.api.services.exceptions.QueueFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIntakeTest {
+
+    private static final OrderRequest REQUEST = new OrderRequest(1L, List.of(new OrderItemRequest(3L, 2)));
+
+    @Mock
+    private OrderService orderService;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final OrderMetrics orderMetrics = new OrderMetrics(registry);
+
+    private OrderIntake orderIntake;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        orderIntake.shutdown();
+    }
+
+    @Test
+    void submit_whenQueueIsFull_shouldThrowQueueFullException() {
+        // Given
+        orderIntake = new OrderIntake(orderService, orderMetrics, 2, 1, 20, Duration.ofMinutes(1), Duration.ZERO, false);
+        OrderRequestStatusResponse first = orderIntake.submit(REQUEST);
+        orderIntake.submit(REQUEST);
+
+        // When/Then
+        assertThrows(QueueFullException.class, () -> orderIntake.submit(REQUEST));
+        assertEquals("QUEUED", orderIntake.findStatus(first.trackingId()).orElseThrow().status());
+        assertEquals(2, orderIntake.pending());
+        assertEquals(1, registry.get("orders.placement.failures").tag("reason", OrderMetrics.QUEUE_FULL).counter().count());
+    }
+
+    @Test
+    void submit_shouldPlaceQueuedOrdersAndReportTheirOutcome() throws InterruptedException {
+        // Given
+        when(orderService.insertEach(List.of(REQUEST))).thenReturn(List.of(OrderBatchResultResponse.created(0, 10L)));
+        orderIntake = new OrderIntake(orderService, orderMetrics, 10, 1, 20, Duration.ofMinutes(1), Duration.ofSeconds(5), true);
+
+        OrderRequestStatusResponse accepted = orderIntake.submit(REQUEST);
+
+        // When
+        orderIntake.start();
+        OrderRequestStatusResponse status = awaitDone(accepted.trackingId());
+
+        // Then
+        assertEquals("CREATED", status.status());
+        assertEquals(10L, status.orderId());
+        assertTrue(orderIntake.findStatus("unknown").isEmpty());
+    }
+
+    private OrderRequestStatusResponse awaitDone(String trackingId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            OrderRequestStatusResponse status = orderIntake.findStatus(trackingId).orElseThrow();
+            if (status.status().equals("CREATED") || status.status().equals("FAILED")) return status;
+            Thread.sleep(50);
+        }
+        return fail("Order was not processed in time");
+    }
+}
@@ -0,0 +1,58 @@
+package dev.projetos.stefano.order.api.metrics;
+
+import dev.projetos.stefano.order.api.entities.Order;
+import dev.projetos.stefano.order.api.entities.OrderItem;
+import dev.projetos.stefano.order.api.entities.Product;
+import dev.projetos.stefano.order.api.entities.money.Money;
+import dev.projetos.stefano.order.api.services.exceptions.InsufficientStockException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final OrderMetrics orderMetrics = new OrderMetrics(registry);
+
+    @Test
+    void recordPlaced_outsideATransaction_shouldCountOrdersAndLinesRightAway() {
+        // Given
+        Order single = orderWithLines(1);
+        Order triple = orderWithLines(3);
+
+        // When
+        orderMetrics.recordPlaced(List.of(single, triple));
+
+        // Then
+        DistributionSummary lines = registry.get("orders.lines").summary();
+        assertEquals(2, registry.get("orders.placed").counter().count());
+        assertEquals(2, lines.count());
+        assertEquals(4, lines.totalAmount());
+    }
+
+    @Test
+    void recordFailure_shouldTagFailuresWithTheirReason() {
+        // When
+        orderMetrics.recordFailure(new InsufficientStockException(1L));
+        orderMetrics.recordFailure(new InsufficientStockException(2L));
+        orderMetrics.recordFailure(new DataIntegrityViolationException("duplicate key"));
+
+        // Then
+        assertEquals(2, registry.get("orders.placement.failures").tag("reason", OrderMetrics.INSUFFICIENT_STOCK).counter().count());
+        assertEquals(1, registry.get("orders.placement.failures").tag("reason", OrderMetrics.ERROR).counter().count());
+    }
+
+    private static Order orderWithLines(int lines) {
+        Order order = new Order();
+        for (long id = 1; id <= lines; id++) {
+            Product product = new Product(id, "Product " + id, "Lorem ipsum dolor sit amet, consectetur.", Money.of("10.0"), "");
+            order.getItems().add(new OrderItem(order, product, 1, product.getPrice()));
+        }
+        return order;
+    }
+}
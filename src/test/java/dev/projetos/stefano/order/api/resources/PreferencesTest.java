@@ -0,0 +1,23 @@
+package dev.projetos.stefano.order.api.resources;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreferencesTest {
+
+    @Test
+    void contains_whenPreferenceIsOneOfSeveralTokens_shouldFindIt() {
+        assertTrue(Preferences.contains(List.of("respond-async, wait=5"), Preferences.RESPOND_ASYNC));
+        assertTrue(Preferences.contains(List.of("wait=5", " Respond-Async ; foo=bar"), Preferences.RESPOND_ASYNC));
+    }
+
+    @Test
+    void contains_whenPreferenceIsAbsent_shouldReturnFalse() {
+        assertFalse(Preferences.contains(null, Preferences.RESPOND_ASYNC));
+        assertFalse(Preferences.contains(List.of("return=minimal", "wait=5"), Preferences.RESPOND_ASYNC));
+        assertFalse(Preferences.contains(List.of("respond-async-later"), Preferences.RESPOND_ASYNC));
+    }
+}
@@ -0,0 +1,116 @@
+package dev.projetos.stefano.order.api.rollup;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalesCountersTest {
+
+    private static final SalesKey KEY = new SalesKey(LocalDate.of(2019, 6, 20), 1L);
+
+    @Test
+    void drain_shouldReturnPendingDeltasAndStartEmpty() {
+        // Given
+        SalesCounters counters = new SalesCounters();
+        counters.add(KEY, new SalesDelta(2, 18100));
+        counters.add(KEY, new SalesDelta(-1, -9050));
+
+        // When
+        Map<SalesKey, SalesDelta> drained = counters.drain();
+
+        // Then
+        assertEquals(Map.of(KEY, new SalesDelta(1, 9050)), drained);
+        assertTrue(counters.pending().isEmpty());
+    }
+
+    @Test
+    void drain_whenWritersRunConcurrently_shouldNeverLoseOrRepeatADelta() throws Exception {
+        // Given
+        SalesCounters counters = new SalesCounters();
+        int threads = 8;
+        int addsPerThread = 50_000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < addsPerThread; i++) {
+                    counters.add(KEY, new SalesDelta(1, 100));
+                }
+                return null;
+            }));
+        }
+
+        long units = 0;
+        start.countDown();
+        while (!futures.stream().allMatch(Future::isDone)) {
+            units += counters.drain().getOrDefault(KEY, new SalesDelta(0, 0)).units();
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        units += counters.drain().getOrDefault(KEY, new SalesDelta(0, 0)).units();
+
+        // Then
+        assertEquals((long) threads * addsPerThread, units);
+    }
+
+    @Test
+    void drain_whenManyMoreWritersThanCoresAddToManyKeys_shouldKeepEveryUnitAndCent() throws Exception {
+        // Given
+        SalesCounters counters = new SalesCounters();
+        int threads = 4 * Runtime.getRuntime().availableProcessors();
+        int addsPerThread = 20_000;
+        List<SalesKey> keys = List.of(KEY, new SalesKey(KEY.day(), 2L), new SalesKey(KEY.day().plusDays(1), 1L));
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < addsPerThread; i++) {
+                    counters.add(keys.get(ThreadLocalRandom.current().nextInt(keys.size())), new SalesDelta(1, 100));
+                }
+                return null;
+            }));
+        }
+
+        long units = 0;
+        long revenue = 0;
+        start.countDown();
+        while (!futures.stream().allMatch(Future::isDone)) {
+            for (SalesDelta delta : counters.drain().values()) {
+                units += delta.units();
+                revenue += delta.revenue();
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        for (SalesDelta delta : counters.drain().values()) {
+            units += delta.units();
+            revenue += delta.revenue();
+        }
+
+        // Then
+        assertEquals((long) threads * addsPerThread, units);
+        assertEquals((long) threads * addsPerThread * 100, revenue);
+    }
+}
@@ -0,0 +1,59 @@
+package dev.projetos.stefano.order.api.search;
+
+import dev.projetos.stefano.order.api.dtos.response.ProductSuggestionResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixIndexTest {
+
+    private final PrefixIndex index = PrefixIndex.build(
+            new long[]{1L, 2L, 3L, 4L, 5L},
+            new String[]{"The Lord of the Rings", "Smart TV", "Macbook Pro", "Smartphone Pró", "Lâmpada LED"},
+            new long[]{5, 40, 12, 90, 0});
+
+    @Test
+    void top_shouldReturnMatchesMostSoldFirst() {
+        // When
+        List<Long> ids = ids(index.top("sma", 10));
+
+        // Then
+        assertEquals(List.of(4L, 2L), ids);
+    }
+
+    @Test
+    void top_shouldMatchAnyWordOfTheNameIgnoringCaseAndAccents() {
+        // When/Then
+        assertEquals(List.of(4L, 3L), ids(index.top("PRO", 10)));
+        assertEquals(List.of(5L), ids(index.top("lampada l", 10)));
+    }
+
+    @Test
+    void top_whenPrefixEndsWithSeparator_shouldOnlyMatchWholeWords() {
+        // When/Then
+        assertEquals(List.of(2L), ids(index.top("smart ", 10)));
+    }
+
+    @Test
+    void top_whenProductMatchesTwice_shouldReturnItOnce() {
+        // When
+        List<Long> ids = ids(index.top("th", 10));
+
+        // Then
+        assertEquals(List.of(1L), ids);
+    }
+
+    @Test
+    void top_shouldStopAtCount() {
+        // When/Then
+        assertEquals(List.of(4L), ids(index.top("s", 1)));
+        assertTrue(index.top("xyz", 10).isEmpty());
+        assertTrue(index.top("  ", 10).isEmpty());
+    }
+
+    private static List<Long> ids(List<ProductSuggestionResponse> suggestions) {
+        return suggestions.stream().map(ProductSuggestionResponse::id).toList();
+    }
+}
@@ -0,0 +1,140 @@
+package dev.projetos.stefano.order.api.search;
+
+import dev.projetos.stefano.order.api.dtos.response.ProductResponse;
+import dev.projetos.stefano.order.api.entities.Product;
+import dev.projetos.stefano.order.api.entities.money.Money;
+import dev.projetos.stefano.order.api.mapper.CategoryMapper;
+import dev.projetos.stefano.order.api.mapper.ProductMapper;
+import dev.projetos.stefano.order.api.repositories.ProductRepository;
+import dev.projetos.stefano.order.api.services.events.ProductChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex = new ProductSearchIndex(productRepository, new ProductMapper(new CategoryMapper()));
+    }
+
+    @Test
+    void tokenize_shouldLowerCaseAndFoldAccents() {
+        // When
+        List<String> tokens = ProductSearchIndex.tokenize("Lâmpada LED, 50\"-Polegadas!");
+
+        // Then
+        assertEquals(List.of("lampada", "led", "50", "polegadas"), tokens);
+    }
+
+    @Test
+    void search_shouldMatchAllTermsAndRankNameMatchesFirst() {
+        // Given
+        givenCatalog();
+
+        // When
+        List<Long> lampada = ids(productSearchIndex.search("LAMPADA", 0, 10));
+        List<Long> led = ids(productSearchIndex.search("led", 0, 10));
+        List<Long> lampadaTv = ids(productSearchIndex.search("lampada tv", 0, 10));
+
+        // Then
+        assertEquals(List.of(1L, 2L), lampada);
+        assertEquals(1L, led.getFirst());
+        assertEquals(3, led.size());
+        assertTrue(lampadaTv.isEmpty());
+        verify(productRepository, times(1)).findByIdIn(any());
+    }
+
+    @Test
+    void search_withOffset_shouldSkipBestMatches() {
+        // Given
+        givenCatalog();
+
+        // When
+        List<Long> all = ids(productSearchIndex.search("led", 0, 10));
+        List<Long> second = ids(productSearchIndex.search("led", 1, 1));
+
+        // Then
+        assertEquals(List.of(all.get(1)), second);
+    }
+
+    @Test
+    void onProductChanged_shouldReindexOrRemoveTheProduct() {
+        // Given
+        givenCatalog();
+        productSearchIndex.search("led", 0, 10);
+        when(productRepository.findByIdIn(List.of(3L))).thenReturn(List.of(new Product(3L, "Lâmpada inteligente", "Wi-Fi.", Money.of("59.9"), "")));
+        when(productRepository.findByIdIn(List.of(1L))).thenReturn(List.of());
+
+        // When
+        productSearchIndex.onProductChanged(new ProductChangedEvent(3L));
+        productSearchIndex.onProductChanged(new ProductChangedEvent(1L));
+
+        // Then
+        assertEquals(List.of(3L, 2L), ids(productSearchIndex.search("lampada", 0, 10)));
+        assertTrue(productSearchIndex.search("tv", 0, 10).isEmpty());
+    }
+
+    @Test
+    void onProductChanged_whenAnEarlierReindexIsStillReading_shouldWaitAndApplyTheNewerRead() throws Exception {
+        // Given
+        givenCatalog();
+        productSearchIndex.search("led", 0, 10);
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger reads = new AtomicInteger();
+        when(productRepository.findByIdIn(List.of(3L))).thenAnswer(invocation -> {
+            if (reads.incrementAndGet() > 1) return List.of(new Product(3L, "Monitor", "Tela de 27 polegadas.", Money.of("990.0"), ""));
+
+            reading.countDown();
+            release.await();
+            return List.of(new Product(3L, "Smart TV", "Tela LED de 55 polegadas.", Money.of("2490.0"), ""));
+        });
+
+        // When
+        CompletableFuture<Void> older = CompletableFuture.runAsync(() -> productSearchIndex.onProductChanged(new ProductChangedEvent(3L)));
+        assertTrue(reading.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Void> newer = CompletableFuture.runAsync(() -> productSearchIndex.onProductChanged(new ProductChangedEvent(3L)));
+
+        // Then
+        assertThrows(TimeoutException.class, () -> newer.get(200, TimeUnit.MILLISECONDS));
+        release.countDown();
+        older.get(5, TimeUnit.SECONDS);
+        newer.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(3L), ids(productSearchIndex.search("monitor", 0, 10)));
+        assertTrue(productSearchIndex.search("tv", 0, 10).isEmpty());
+    }
+
+    private void givenCatalog() {
+        when(productRepository.findIdsAfter(eq(0L), any())).thenReturn(List.of(1L, 2L, 3L));
+        when(productRepository.findIdsAfter(eq(3L), any())).thenReturn(List.of());
+        when(productRepository.findByIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                new Product(1L, "Lâmpada LED", "Luz branca e econômica.", Money.of("19.9"), ""),
+                new Product(2L, "Luminária de mesa", "Acompanha lampada LED.", Money.of("89.9"), ""),
+                new Product(3L, "Smart TV", "Tela LED de 50 polegadas.", Money.of("2190.0"), "")));
+    }
+
+    private static List<Long> ids(List<ProductResponse> products) {
+        return products.stream().map(ProductResponse::id).toList();
+    }
+}
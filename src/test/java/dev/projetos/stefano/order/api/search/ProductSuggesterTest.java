@@ -0,0 +1,73 @@
+package dev.projetos.stefano.order.api.search;
+
+import dev.projetos.stefano.order.api.dtos.response.ProductSuggestionResponse;
+import dev.projetos.stefano.order.api.repositories.ProductRepository;
+import dev.projetos.stefano.order.api.repositories.projections.ProductPopularityRow;
+import dev.projetos.stefano.order.api.services.events.ProductChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSuggesterTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductSuggester productSuggester;
+
+    @BeforeEach
+    void setUp() {
+        productSuggester = new ProductSuggester(productRepository);
+
+        when(productRepository.findPopularity()).thenReturn(List.of(
+                new ProductPopularityRow(1L, "Smart TV", 40L),
+                new ProductPopularityRow(2L, "Smartphone", 90L),
+                new ProductPopularityRow(3L, "Smartwatch", 10L)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        productSuggester.shutdown();
+    }
+
+    @Test
+    void onProductChanged_shouldPatchOnlyTheChangedProducts() throws InterruptedException {
+        // Given
+        productSuggester.suggest("smart", 10);
+        // product 1 was renamed and product 2 deleted
+        List<ProductPopularityRow> current = List.of(new ProductPopularityRow(1L, "Smart TV 4K", 40L));
+        when(productRepository.findPopularityByIdIn(anyCollection())).thenAnswer(invocation -> current.stream()
+                .filter(row -> invocation.<Collection<Long>>getArgument(0).contains(row.id()))
+                .toList());
+
+        // When
+        productSuggester.onProductChanged(new ProductChangedEvent(1L));
+        productSuggester.onProductChanged(new ProductChangedEvent(2L));
+        List<Long> ids = awaitIds("smart", List.of(1L, 3L));
+
+        // Then
+        assertEquals(List.of(1L, 3L), ids);
+        assertEquals(List.of("Smart TV 4K"), productSuggester.suggest("4k", 10).stream().map(ProductSuggestionResponse::name).toList());
+        verify(productRepository, times(1)).findPopularity();
+    }
+
+    private List<Long> awaitIds(String prefix, List<Long> expected) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            List<Long> ids = productSuggester.suggest(prefix, 10).stream().map(ProductSuggestionResponse::id).toList();
+            if (ids.equals(expected)) return ids;
+            Thread.sleep(20);
+        }
+        return fail("Suggestions were not patched in time");
+    }
+}
@@ -1,5 +1,6 @@
 package dev.projetos.stefano.order.api.services;
 
+import dev.projetos.stefano.order.api.cache.CategoryCatalog;
 import dev.projetos.stefano.order.api.dtos.request.CategoryRequest;
 import dev.projetos.stefano.order.api.dtos.response.CategoryResponse;
 import dev.projetos.stefano.order.api.entities.Category;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.List;
@@ -30,17 +32,21 @@ class CategoryServiceTest {
     @Mock
     private CategoryMapper categoryMapper;
 
+    @Mock
+    private CategoryCatalog categoryCatalog;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CategoryService categoryService;
 
     @Test
     void findById_whenCategoryExists_shouldReturnCategoryResponse() {
         // Given
-        Category cat = new Category(1L, "Electronics");
         CategoryResponse expectedResponse = new CategoryResponse(1L, "Electronics");
 
-        when(categoryRepository.findById(1L)).thenReturn(Optional.of(cat));
-        when(categoryMapper.toResponse(cat)).thenReturn(expectedResponse);
+        when(categoryCatalog.findById(1L)).thenReturn(Optional.of(expectedResponse));
 
         // When
         CategoryResponse result = categoryService.findById(1L);
@@ -48,59 +54,60 @@ class CategoryServiceTest {
         // Then
         assertEquals(result, expectedResponse);
         assertEquals(1L, result.id());
-        verify(categoryRepository).findById(1L);
-        verify(categoryMapper).toResponse(cat);
+        verify(categoryCatalog).findById(1L);
+        verifyNoInteractions(categoryRepository);
     }
 
     @Test
     void findById_whenCategoryNotFound_shouldThrowResourceNotFoundException() {
         // Given
-        when(categoryRepository.findById(1L)).thenReturn(Optional.empty());
+        when(categoryCatalog.findById(1L)).thenReturn(Optional.empty());
 
         // When/Then
         assertThrows(ResourceNotFoundException.class, () -> categoryService.findById(1L));
-        verify(categoryRepository).findById(1L);
-        verify(categoryMapper, never()).toResponse(any());
+        verify(categoryCatalog).findById(1L);
+        verifyNoInteractions(categoryRepository);
     }
 
     @Test
     void findAll_whenCategoriesExists_shouldReturnListOfCategoryResponse() {
         // Given
-        Category cat1 = new Category(1L, "Electronics");
-        Category cat2 = new Category(2L, "Books");
-        Category cat3 = new Category(3L, "Computers");
-
-        when(categoryRepository.findAll()).thenReturn(List.of(cat1, cat2, cat3));
-
         CategoryResponse resp1 = new CategoryResponse(1L, "Electronics");
         CategoryResponse resp2 = new CategoryResponse(2L, "Books");
         CategoryResponse resp3 = new CategoryResponse(3L, "Computers");
 
-        when(categoryMapper.toResponse(cat1)).thenReturn(resp1);
-        when(categoryMapper.toResponse(cat2)).thenReturn(resp2);
-        when(categoryMapper.toResponse(cat3)).thenReturn(resp3);
+        when(categoryCatalog.findAfter(0L, 21)).thenReturn(List.of(resp1, resp2, resp3));
 
         // When
-        List<CategoryResponse> responses = categoryService.findAll();
+        List<CategoryResponse> responses = categoryService.findAll(null, null).content();
 
         // Then
-        assertEquals(3, responses.size());
-        verify(categoryRepository).findAll();
-        verify(categoryMapper, times(3)).toResponse(any());
+        assertEquals(List.of(resp1, resp2, resp3), responses);
+        verify(categoryCatalog).findAfter(0L, 21);
+        verifyNoInteractions(categoryRepository);
     }
 
     @Test
     void findAll_whenNoCategoriesExists_shouldReturnEmptyList() {
         // Given
-        when(categoryRepository.findAll()).thenReturn(List.of());
+        when(categoryCatalog.findAfter(0L, 21)).thenReturn(List.of());
 
         // When
-        List<CategoryResponse> responses = categoryService.findAll();
+        List<CategoryResponse> responses = categoryService.findAll(null, null).content();
 
         // Then
         assertTrue(responses.isEmpty());
-        verify(categoryRepository).findAll();
-        verify(categoryMapper, never()).toResponse(any());
+        verify(categoryCatalog).findAfter(0L, 21);
+    }
+
+    @Test
+    void findEntitiesById_whenAnyCategoryIsMissing_shouldThrowResourceNotFoundException() {
+        // Given
+        when(categoryCatalog.containsAll(List.of(1L, 99L))).thenReturn(false);
+
+        // When/Then
+        assertThrows(ResourceNotFoundException.class, () -> categoryService.findEntitiesById(List.of(1L, 99L)));
+        verify(categoryRepository, never()).getReferenceById(any());
     }
 
     @Test
@@ -0,0 +1,188 @@
+package dev.projetos.stefano.order.api.services;
+
+import dev.projetos.stefano.order.api.dtos.request.OrderItemRequest;
+import dev.projetos.stefano.order.api.dtos.request.OrderRequest;
+import dev.projetos.stefano.order.api.entities.Product;
+import dev.projetos.stefano.order.api.entities.User;
+import dev.projetos.stefano.order.api.inventory.StripedStock;
+import dev.projetos.stefano.order.api.repositories.ProductRepository;
+import dev.projetos.stefano.order.api.repositories.UserRepository;
+import dev.projetos.stefano.order.api.services.exceptions.InsufficientStockException;
+import dev.projetos.stefano.order.api.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class InventoryConcurrencyTest {
+
+    private static final int STOCK = 60;
+    private static final int THREADS = 8;
+    private static final int ORDERS_PER_THREAD = 15;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private StripedStock stripedStock;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void insert_whenManyThreadsOrderTheSameProduct_shouldNeverOversell() throws Exception {
+        // Given
+        Product product = TestData.product(productRepository, STOCK);
+
+        // When
+        int sold = placeConcurrently(product.getId());
+
+        // Then
+        assertEquals(STOCK, sold);
+        assertEquals(0, productRepository.findStockById(product.getId()).orElseThrow());
+    }
+
+    @Test
+    void insert_whenHotProductIsReservedInStripes_shouldNeverOversell() throws Exception {
+        // Given
+        Product product = TestData.product(productRepository, STOCK);
+        stripedStock.track(product.getId());
+
+        // When
+        int sold = placeConcurrently(product.getId());
+
+        // Then
+        assertEquals(STOCK, sold);
+        assertEquals(0, inventoryService.findAvailable(product.getId()));
+    }
+
+    @Test
+    void updateStock_whenTransactionRollsBack_shouldKeepLeasedUnits() {
+        // Given
+        Product product = hotProductWithOneSale();
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            inventoryService.updateStock(product.getId(), 10);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertEquals(STOCK - 1, inventoryService.findAvailable(product.getId()));
+    }
+
+    @Test
+    void updateStock_whenAnOrderRollsBackAfterTheReset_shouldNotGiveItsUnitsBack() {
+        // Given
+        Product product = hotProductWithOneSale();
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            inventoryService.reserve(Map.of(product.getId(), 5));
+
+            // the reset commits while the order is still open
+            Thread admin = Thread.ofPlatform().start(() -> inventoryService.updateStock(product.getId(), 10));
+            assertDoesNotThrow(() -> admin.join());
+
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertEquals(10, inventoryService.findAvailable(product.getId()));
+    }
+
+    @Test
+    void reserve_whenTheLeasingOrderIsStillOpen_shouldLetOtherOrdersTakeFromTheBlock() {
+        // Given
+        Product product = TestData.product(productRepository, STOCK);
+        stripedStock.track(product.getId());
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            inventoryService.reserve(Map.of(product.getId(), 5));
+
+            // the lease committed on its own, so neither the row nor the block waits for this order
+            CompletableFuture<Void> other = CompletableFuture.runAsync(() -> inventoryService.reserve(Map.of(product.getId(), 1)));
+            assertDoesNotThrow(() -> other.get(5, TimeUnit.SECONDS));
+
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertEquals(STOCK - 1, inventoryService.findAvailable(product.getId()));
+    }
+
+    private Product hotProductWithOneSale() {
+        Product product = TestData.product(productRepository, STOCK);
+        stripedStock.track(product.getId());
+
+        User client = TestData.client(userRepository);
+        orderService.insert(new OrderRequest(client.getId(), List.of(new OrderItemRequest(product.getId(), 1))));
+
+        return product;
+    }
+
+    private int placeConcurrently(Long productId) throws Exception {
+        User client = TestData.client(userRepository);
+        OrderRequest request = new OrderRequest(client.getId(), List.of(new OrderItemRequest(productId, 1)));
+
+        AtomicInteger sold = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+
+                    for (int i = 0; i < ORDERS_PER_THREAD; i++) {
+                        try {
+                            orderService.insert(request);
+                            sold.incrementAndGet();
+                        } catch (InsufficientStockException e) {
+                            // expected once the product is sold out
+                        }
+                    }
+
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        return sold.get();
+    }
+}
@@ -0,0 +1,81 @@
+package dev.projetos.stefano.order.api.services;
+
+import dev.projetos.stefano.order.api.dtos.request.OrderItemRequest;
+import dev.projetos.stefano.order.api.dtos.request.OrderRequest;
+import dev.projetos.stefano.order.api.dtos.response.OrderBatchResultResponse;
+import dev.projetos.stefano.order.api.entities.Product;
+import dev.projetos.stefano.order.api.entities.User;
+import dev.projetos.stefano.order.api.repositories.OrderRepository;
+import dev.projetos.stefano.order.api.repositories.ProductRepository;
+import dev.projetos.stefano.order.api.repositories.UserRepository;
+import dev.projetos.stefano.order.api.services.exceptions.InvalidParameterException;
+import dev.projetos.stefano.order.api.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class OrderBatchServiceTest {
+
+    @Autowired
+    private OrderBatchService orderBatchService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void insertAll_whenSomeOrdersAreInvalid_shouldPersistTheValidOnesAndReportEachOutcome() {
+        // Given
+        User client = TestData.client(userRepository);
+        Product product = TestData.product(productRepository, 100);
+        long ordersBefore = orderRepository.count();
+
+        List<OrderRequest> requests = List.of(
+                new OrderRequest(client.getId(), List.of(new OrderItemRequest(product.getId(), 1))),
+                new OrderRequest(client.getId(), List.of(new OrderItemRequest(-1L, 1))),
+                new OrderRequest(client.getId(), List.of(new OrderItemRequest(product.getId(), 0))),
+                new OrderRequest(-1L, List.of(new OrderItemRequest(product.getId(), 1))),
+                new OrderRequest(client.getId(), List.of(new OrderItemRequest(product.getId(), 3))));
+
+        // When
+        List<OrderBatchResultResponse> results = orderBatchService.insertAll(requests);
+
+        // Then
+        assertEquals(List.of("CREATED", "FAILED", "FAILED", "FAILED", "CREATED"), results.stream().map(OrderBatchResultResponse::status).toList());
+        assertNotNull(results.get(0).orderId());
+        assertNotNull(results.get(4).orderId());
+        assertEquals(ordersBefore + 2, orderRepository.count());
+    }
+
+    @Test
+    void insertAll_whenStockRunsOutMidBatch_shouldRejectOnlyTheOrdersThatDoNotFit() {
+        // Given
+        User client = TestData.client(userRepository);
+        Product product = TestData.product(productRepository, 2);
+
+        OrderRequest request = new OrderRequest(client.getId(), List.of(new OrderItemRequest(product.getId(), 1)));
+
+        // When
+        List<OrderBatchResultResponse> results = orderBatchService.insertAll(List.of(request, request, request));
+
+        // Then
+        assertEquals(List.of("CREATED", "CREATED", "FAILED"), results.stream().map(OrderBatchResultResponse::status).toList());
+        assertEquals(0, productRepository.findStockById(product.getId()).orElseThrow());
+    }
+
+    @Test
+    void insertAll_whenBatchIsEmpty_shouldThrowInvalidParameterException() {
+        // When/Then
+        assertThrows(InvalidParameterException.class, () -> orderBatchService.insertAll(List.of()));
+    }
+}
@@ -0,0 +1,67 @@
+package dev.projetos.stefano.order.api.services;
+
+import dev.projetos.stefano.order.api.dtos.request.OrderItemRequest;
+import dev.projetos.stefano.order.api.dtos.request.OrderRequest;
+import dev.projetos.stefano.order.api.dtos.response.OrderResponse;
+import dev.projetos.stefano.order.api.entities.Product;
+import dev.projetos.stefano.order.api.entities.User;
+import dev.projetos.stefano.order.api.repositories.ProductRepository;
+import dev.projetos.stefano.order.api.repositories.UserRepository;
+import dev.projetos.stefano.order.api.support.SqlStatementCounter;
+import dev.projetos.stefano.order.api.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = SqlStatementCounter.PROPERTY)
+class OrderDetailQueryCountTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void findById_whenLineCountGrows_shouldRunTheSameNumberOfStatements() {
+        // Given
+        Long smallOrder = placeOrderWith(1);
+        Long largeOrder = placeOrderWith(30);
+
+        // When
+        long statementsForSmallOrder = statementsToRead(smallOrder, 1);
+        long statementsForLargeOrder = statementsToRead(largeOrder, 30);
+
+        // Then
+        assertEquals(statementsForSmallOrder, statementsForLargeOrder);
+        assertTrue(statementsForSmallOrder <= 2, "expected a single detail query, got " + statementsForSmallOrder);
+    }
+
+    private long statementsToRead(Long orderId, int expectedLines) {
+        SqlStatementCounter.reset();
+
+        OrderResponse response = orderService.findById(orderId);
+
+        assertEquals(expectedLines, response.items().size());
+        return SqlStatementCounter.total();
+    }
+
+    private Long placeOrderWith(int lines) {
+        User client = TestData.client(userRepository);
+
+        List<Product> products = TestData.products(productRepository, lines);
+
+        List<OrderItemRequest> items = products.stream()
+                .map(p -> new OrderItemRequest(p.getId(), 1))
+                .toList();
+
+        return orderService.insert(new OrderRequest(client.getId(), items)).id();
+    }
+}
@@ -0,0 +1,80 @@
+package dev.projetos.stefano.order.api.services;
+
+import dev.projetos.stefano.order.api.dtos.request.OrderItemRequest;
+import dev.projetos.stefano.order.api.dtos.request.OrderRequest;
+import dev.projetos.stefano.order.api.entities.Product;
+import dev.projetos.stefano.order.api.entities.User;
+import dev.projetos.stefano.order.api.repositories.OrderRepository;
+import dev.projetos.stefano.order.api.repositories.ProductRepository;
+import dev.projetos.stefano.order.api.repositories.UserRepository;
+import dev.projetos.stefano.order.api.support.SqlStatementCounter;
+import dev.projetos.stefano.order.api.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = SqlStatementCounter.PROPERTY)
+class OrderExportQueryCountTest {
+
+    // one query for the orders, then one for the items and one for the payments of each chunk of 500
+    private static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void export_whenOrderCountGrows_shouldRunTheSameNumberOfStatementsPerChunk() {
+        // Given
+        placeOrders(1);
+        long statementsBefore = statementsToExport();
+
+        placeOrders(30);
+
+        // When
+        long statementsAfter = statementsToExport();
+
+        // Then
+        assertEquals(expectedStatements(), statementsAfter);
+        assertTrue(statementsAfter - statementsBefore <= 2, "expected at most one more chunk, got " + (statementsAfter - statementsBefore) + " more statements");
+    }
+
+    private long statementsToExport() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SqlStatementCounter.reset();
+
+        orderService.export(out);
+
+        long statements = SqlStatementCounter.count("select");
+        assertEquals(orderRepository.count(), out.toString(StandardCharsets.UTF_8).lines().count());
+        return statements;
+    }
+
+    private long expectedStatements() {
+        long chunks = (orderRepository.count() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return 1 + 2 * chunks;
+    }
+
+    private void placeOrders(int count) {
+        User client = TestData.client(userRepository);
+        Product product = TestData.product(productRepository, 1_000_000);
+
+        for (int i = 0; i < count; i++) {
+            orderService.insert(new OrderRequest(client.getId(), List.of(new OrderItemRequest(product.getId(), 1 + i % 3))));
+        }
+    }
+}
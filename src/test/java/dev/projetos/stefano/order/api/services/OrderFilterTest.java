@@ -0,0 +1,76 @@
+package dev.projetos.stefano.order.api.services;
+
+import dev.projetos.stefano.order.api.dtos.response.OrderPageResponse;
+import dev.projetos.stefano.order.api.dtos.response.OrderResponse;
+import dev.projetos.stefano.order.api.entities.Order;
+import dev.projetos.stefano.order.api.entities.User;
+import dev.projetos.stefano.order.api.entities.enums.OrderStatus;
+import dev.projetos.stefano.order.api.repositories.OrderRepository;
+import dev.projetos.stefano.order.api.repositories.UserRepository;
+import dev.projetos.stefano.order.api.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class OrderFilterTest {
+
+    private static final Instant FROM = Instant.parse("2001-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2001-01-01T01:00:00Z");
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void findFiltered_shouldPageNewestFirstAndCountEveryStatusInRange() {
+        // Given
+        User client = TestData.client(userRepository);
+        Order oldest = save(client, "2001-01-01T00:10:00Z", OrderStatus.PAID);
+        Order tiedLow = save(client, "2001-01-01T00:20:00.000001Z", OrderStatus.PAID);
+        Order tiedHigh = save(client, "2001-01-01T00:20:00.000001Z", OrderStatus.PAID);
+        save(client, "2001-01-01T00:30:00Z", OrderStatus.WAITING_PAYMENT);
+        save(client, "2001-01-01T01:00:00Z", OrderStatus.PAID);
+
+        // When
+        OrderPageResponse first = orderService.findFiltered(OrderStatus.PAID, FROM, TO, null, 2, true);
+        OrderPageResponse second = orderService.findFiltered(OrderStatus.PAID, FROM, TO, first.cursor(), 2, false);
+
+        // Then
+        assertEquals(List.of(tiedHigh.getId(), tiedLow.getId()), ids(first));
+        assertEquals(List.of(oldest.getId()), ids(second));
+        assertNull(second.cursor());
+        assertEquals(3L, first.statusCounts().get("PAID"));
+        assertEquals(1L, first.statusCounts().get("WAITING_PAYMENT"));
+        assertEquals(0L, first.statusCounts().get("CANCELED"));
+        assertNull(second.statusCounts());
+    }
+
+    @Test
+    void save_whenMomentIsMissing_shouldBeRejected() {
+        // Given
+        User client = TestData.client(userRepository);
+
+        // When/Then
+        assertThrows(DataIntegrityViolationException.class, () -> orderRepository.save(new Order(null, null, OrderStatus.PAID, client)));
+    }
+
+    private Order save(User client, String moment, OrderStatus status) {
+        return orderRepository.save(new Order(null, Instant.parse(moment), status, client));
+    }
+
+    private static List<Long> ids(OrderPageResponse page) {
+        return page.content().stream().map(OrderResponse::id).toList();
+    }
+}
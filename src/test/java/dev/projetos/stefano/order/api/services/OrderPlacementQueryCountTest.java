@@ -0,0 +1,58 @@
+package dev.projetos.stefano.order.api.services;
+
+import dev.projetos.stefano.order.api.dtos.request.OrderItemRequest;
+import dev.projetos.stefano.order.api.dtos.request.OrderRequest;
+import dev.projetos.stefano.order.api.entities.Product;
+import dev.projetos.stefano.order.api.entities.User;
+import dev.projetos.stefano.order.api.repositories.ProductRepository;
+import dev.projetos.stefano.order.api.repositories.UserRepository;
+import dev.projetos.stefano.order.api.support.SqlStatementCounter;
+import dev.projetos.stefano.order.api.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = SqlStatementCounter.PROPERTY)
+class OrderPlacementQueryCountTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void insert_whenLineCountGrows_shouldRunTheSameNumberOfSelects() {
+        // Given
+        long selectsForOneLine = selectsToPlaceOrderWith(1);
+
+        // When
+        long selectsForFiftyLines = selectsToPlaceOrderWith(50);
+
+        // Then
+        assertEquals(selectsForOneLine, selectsForFiftyLines);
+        assertTrue(selectsForOneLine <= 3, "client lookup + product IN query expected, got " + selectsForOneLine);
+    }
+
+    private long selectsToPlaceOrderWith(int lines) {
+        User client = TestData.client(userRepository);
+
+        List<Product> products = TestData.products(productRepository, lines);
+
+        List<OrderItemRequest> items = products.stream()
+                .map(p -> new OrderItemRequest(p.getId(), 1))
+                .toList();
+
+        SqlStatementCounter.reset();
+        orderService.insert(new OrderRequest(client.getId(), items));
+
+        return SqlStatementCounter.count("select");
+    }
+}
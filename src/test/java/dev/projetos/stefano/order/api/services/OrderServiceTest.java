@@ -0,0 +1,332 @@
+package dev.projetos.stefano.order.api.services;
+
+import dev.projetos.stefano.order.api.dtos.request.OrderItemRequest;
+import dev.projetos.stefano.order.api.dtos.request.OrderRequest;
+import dev.projetos.stefano.order.api.dtos.response.OrderBatchResultResponse;
+import dev.projetos.stefano.order.api.dtos.response.OrderResponse;
+import dev.projetos.stefano.order.api.dtos.response.OrderSummaryResponse;
+import dev.projetos.stefano.order.api.dtos.response.PageResponse;
+import dev.projetos.stefano.order.api.dtos.response.ProductResponse;
+import dev.projetos.stefano.order.api.entities.Order;
+import dev.projetos.stefano.order.api.entities.OrderItem;
+import dev.projetos.stefano.order.api.entities.Product;
+import dev.projetos.stefano.order.api.entities.User;
+import dev.projetos.stefano.order.api.entities.enums.OrderStatus;
+import dev.projetos.stefano.order.api.entities.money.Money;
+import dev.projetos.stefano.order.api.mapper.OrderMapper;
+import dev.projetos.stefano.order.api.metrics.OrderMetrics;
+import dev.projetos.stefano.order.api.pagination.Cursor;
+import dev.projetos.stefano.order.api.repositories.OrderRepository;
+import dev.projetos.stefano.order.api.repositories.ProductRepository;
+import dev.projetos.stefano.order.api.repositories.UserRepository;
+import dev.projetos.stefano.order.api.repositories.projections.OrderSummaryRow;
+import dev.projetos.stefano.order.api.services.exceptions.InsufficientStockException;
+import dev.projetos.stefano.order.api.services.exceptions.InvalidParameterException;
+import dev.projetos.stefano.order.api.services.exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderMapper orderMapper;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private InventoryService inventoryService;
+
+    @Mock
+    private SalesReportService salesReportService;
+
+    @Mock
+    private OrderMetrics orderMetrics;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        OrderPlacement orderPlacement = new OrderPlacement(orderRepository, productRepository, inventoryService, salesReportService, orderMetrics);
+        orderService = new OrderService(orderRepository, orderMapper, userRepository, productService, orderPlacement, salesReportService, orderMetrics, transactionTemplate, null);
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void insert_whenRequestHasDuplicateProducts_shouldMergeLinesAndQueryProductsOnce() {
+        // Given
+        User client = new User(1L, "Maria Brown", "maria@gmail.com", "988888888", "123456");
+        Product p1 = new Product(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "");
+        Product p2 = new Product(2L, "Smart TV", "Nulla eu imperdiet purus. Maecenas ante.", Money.of("2190.0"), "");
+
+        OrderRequest request = new OrderRequest(1L, List.of(
+                new OrderItemRequest(1L, 2),
+                new OrderItemRequest(1L, 3),
+                new OrderItemRequest(2L, 1)));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(client));
+        when(productService.findAllById(Set.of(1L, 2L))).thenReturn(Map.of(1L, toResponse(p1), 2L, toResponse(p2)));
+        when(productRepository.getReferenceById(1L)).thenReturn(p1);
+        when(productRepository.getReferenceById(2L)).thenReturn(p2);
+        when(orderRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        orderService.insert(request);
+
+        // Then
+        ArgumentCaptor<Order> captor = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository).save(captor.capture());
+        verify(productService, times(1)).findAllById(any());
+        verify(productRepository, never()).findById(any());
+
+        Set<OrderItem> items = captor.getValue().getItems();
+        assertEquals(2, items.size());
+        assertEquals(5, items.stream().filter(i -> i.getProduct().equals(p1)).findFirst().orElseThrow().getQuantity());
+        assertEquals(Money.of("2642.5"), captor.getValue().getTotal());
+    }
+
+    @Test
+    void insert_whenRequestRepeatsAnIdenticalLine_shouldSumBothLines() {
+        // Given
+        User client = new User(1L, "Maria Brown", "maria@gmail.com", "988888888", "123456");
+        Product p1 = new Product(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "");
+
+        OrderRequest request = JsonMapper.builder().build().readValue(
+                "{\"clientId\":1,\"items\":[{\"productId\":1,\"quantity\":2},{\"productId\":1,\"quantity\":2}]}", OrderRequest.class);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(client));
+        when(productService.findAllById(Set.of(1L))).thenReturn(Map.of(1L, toResponse(p1)));
+        when(productRepository.getReferenceById(1L)).thenReturn(p1);
+        when(orderRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        orderService.insert(request);
+
+        // Then
+        ArgumentCaptor<Order> captor = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository).save(captor.capture());
+        verify(inventoryService).reserve(Map.of(1L, 4));
+
+        Set<OrderItem> items = captor.getValue().getItems();
+        assertEquals(1, items.size());
+        assertEquals(4, items.iterator().next().getQuantity());
+        assertEquals(Money.of("362.0"), captor.getValue().getTotal());
+    }
+
+    @Test
+    void insert_whenProductsAreMissing_shouldReportAllMissingIdsTogether() {
+        // Given
+        User client = new User(1L, "Maria Brown", "maria@gmail.com", "988888888", "123456");
+        Product p1 = new Product(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "");
+
+        OrderRequest request = new OrderRequest(1L, List.of(
+                new OrderItemRequest(1L, 1),
+                new OrderItemRequest(7L, 1),
+                new OrderItemRequest(9L, 1)));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(client));
+        when(productService.findAllById(any())).thenReturn(Map.of(1L, toResponse(p1)));
+
+        // When
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> orderService.insert(request));
+
+        // Then
+        assertTrue(exception.getMessage().contains("7"));
+        assertTrue(exception.getMessage().contains("9"));
+        verify(orderRepository, never()).save(any());
+        verify(orderMapper, never()).toResponse(any(), any());
+    }
+
+    @Test
+    void insert_whenStockIsInsufficient_shouldNotSaveOrder() {
+        // Given
+        User client = new User(1L, "Maria Brown", "maria@gmail.com", "988888888", "123456");
+        Product p1 = new Product(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "");
+        OrderRequest request = new OrderRequest(1L, List.of(new OrderItemRequest(1L, 3)));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(client));
+        when(productService.findAllById(any())).thenReturn(Map.of(1L, toResponse(p1)));
+        doThrow(new InsufficientStockException(1L)).when(inventoryService).reserve(Map.of(1L, 3));
+
+        // When/Then
+        InsufficientStockException exception = assertThrows(InsufficientStockException.class, () -> orderService.insert(request));
+        verify(orderRepository, never()).save(any());
+        verify(orderMetrics).recordFailure(exception);
+        verify(orderMetrics, never()).recordPlaced(any());
+    }
+
+    @Test
+    void insert_whenCommitFails_shouldRecordTheFailure() {
+        // Given
+        OrderRequest request = new OrderRequest(1L, List.of(new OrderItemRequest(1L, 1)));
+        DataIntegrityViolationException commitFailure = new DataIntegrityViolationException("duplicate key");
+
+        doThrow(commitFailure).when(transactionTemplate).execute(any());
+
+        // When/Then
+        assertThrows(DataIntegrityViolationException.class, () -> orderService.insert(request));
+        verify(orderMetrics).recordFailure(commitFailure);
+    }
+
+    @Test
+    void insert_whenClientNotFound_shouldThrowResourceNotFoundException() {
+        // Given
+        OrderRequest request = new OrderRequest(999L, List.of(new OrderItemRequest(1L, 1)));
+
+        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThrows(ResourceNotFoundException.class, () -> orderService.insert(request));
+        verify(productService, never()).findAllById(any());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void insertEach_whenOneOrderFails_shouldPlaceTheOthersAndReportTheFailureOnce() {
+        // Given
+        User client = new User(1L, "Maria Brown", "maria@gmail.com", "988888888", "123456");
+        Product p1 = new Product(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "");
+        OrderRequest valid = new OrderRequest(1L, List.of(new OrderItemRequest(1L, 1)));
+        OrderRequest unknownClient = new OrderRequest(9L, List.of(new OrderItemRequest(1L, 1)));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(client));
+        when(userRepository.findById(9L)).thenReturn(Optional.empty());
+        when(productService.findAllById(Set.of(1L))).thenReturn(Map.of(1L, toResponse(p1)));
+        when(productRepository.getReferenceById(1L)).thenReturn(p1);
+        when(orderRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderMapper.toResponse(any(Order.class), anyMap())).thenReturn(new OrderResponse(10L, null, null, null, List.of(), null, null));
+
+        // When
+        List<OrderBatchResultResponse> results = orderService.insertEach(List.of(valid, unknownClient));
+
+        // Then
+        assertEquals("CREATED", results.get(0).status());
+        assertEquals(10L, results.get(0).orderId());
+        assertEquals("FAILED", results.get(1).status());
+        assertTrue(results.get(1).error().contains("9"));
+        verify(transactionTemplate, times(3)).execute(any());
+        verify(orderMetrics, times(1)).recordFailure(any(ResourceNotFoundException.class));
+    }
+
+    @Test
+    void updateStatus_whenOrderIsCanceled_shouldRemoveItFromSalesRollup() {
+        // Given
+        Order order = new Order(1L, Instant.parse("2019-06-20T19:53:07Z"), OrderStatus.PAID, null);
+        when(orderRepository.findDetailById(1L)).thenReturn(Optional.of(order));
+
+        // When
+        orderService.updateStatus(1L, OrderStatus.CANCELED);
+
+        // Then
+        assertEquals(OrderStatus.CANCELED, order.getOrderStatus());
+        verify(salesReportService).recordCanceled(order);
+    }
+
+    @Test
+    void updateStatus_whenOrderWasAlreadyCanceled_shouldThrowInvalidParameterException() {
+        // Given
+        Order order = new Order(1L, Instant.parse("2019-06-20T19:53:07Z"), OrderStatus.CANCELED, null);
+        when(orderRepository.findDetailById(1L)).thenReturn(Optional.of(order));
+
+        // When/Then
+        assertThrows(InvalidParameterException.class, () -> orderService.updateStatus(1L, OrderStatus.PAID));
+        assertEquals(OrderStatus.CANCELED, order.getOrderStatus());
+        verifyNoInteractions(salesReportService);
+    }
+
+    @Test
+    void findByClient_whenMoreOrdersThanLimit_shouldReturnSummariesWithoutItems() {
+        // Given
+        OrderSummaryRow newest = new OrderSummaryRow(7L, Instant.parse("2019-07-22T15:21:22Z"), (short) 2, Money.of("90.5"), 1);
+        OrderSummaryRow middle = new OrderSummaryRow(5L, Instant.parse("2019-06-20T19:53:07.123456Z"), (short) 1, Money.of("2190.0"), 2);
+        OrderSummaryRow oldest = new OrderSummaryRow(3L, Instant.parse("2019-06-20T19:53:07Z"), (short) 1, Money.of("1250.0"), 1);
+        OrderSummaryResponse first = new OrderSummaryResponse(7L, "2019-07-22T15:21:22Z", "PAID", Money.of("90.5"), 1, null);
+        OrderSummaryResponse second = new OrderSummaryResponse(5L, "2019-06-20T19:53:07.123456Z", "WAITING_PAYMENT", Money.of("2190.0"), 2, null);
+
+        when(orderRepository.findSummariesByClientId(1L, Limit.of(3))).thenReturn(List.of(newest, middle, oldest));
+        when(orderMapper.toSummaryResponse(newest, null)).thenReturn(first);
+        when(orderMapper.toSummaryResponse(middle, null)).thenReturn(second);
+
+        // When
+        PageResponse<OrderSummaryResponse> page = orderService.findByClient(1L, null, 2, false);
+
+        // Then
+        assertEquals(List.of(first, second), page.content());
+        assertArrayEquals(new String[]{"1561060387", "123456000", "5"}, Cursor.decode(page.cursor(), 3));
+        verify(orderRepository, never()).findItemRowsByOrderIdIn(any());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void findByClient_whenCursorIsGiven_shouldContinueBeforeItsMomentAndId() {
+        // Given
+        Instant moment = Instant.parse("2019-06-20T19:53:07.123456Z");
+        when(orderRepository.findSummariesByClientIdBefore(1L, moment, 5L, Limit.of(21))).thenReturn(List.of());
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        // When
+        PageResponse<OrderSummaryResponse> page = orderService.findByClient(1L, Cursor.encode(moment.getEpochSecond(), moment.getNano(), 5L), null, true);
+
+        // Then
+        assertTrue(page.content().isEmpty());
+        assertNull(page.cursor());
+    }
+
+    @Test
+    void findByClient_whenUserNotFound_shouldThrowResourceNotFoundException() {
+        // Given
+        when(orderRepository.findSummariesByClientId(9L, Limit.of(21))).thenReturn(List.of());
+        when(userRepository.existsById(9L)).thenReturn(false);
+
+        // When/Then
+        assertThrows(ResourceNotFoundException.class, () -> orderService.findByClient(9L, null, null, false));
+    }
+
+    @Test
+    void findFiltered_whenFromIsNotBeforeTo_shouldThrowInvalidParameterException() {
+        // Given
+        Instant moment = Instant.parse("2019-06-20T19:53:07Z");
+
+        // When/Then
+        assertThrows(InvalidParameterException.class, () -> orderService.findFiltered(null, moment, moment, null, null, false));
+        verifyNoInteractions(orderRepository);
+    }
+
+    private static ProductResponse toResponse(Product product) {
+        return new ProductResponse(product.getId(), product.getName(), product.getDescription(), product.getPrice(), product.getImgUrl(), List.of());
+    }
+}
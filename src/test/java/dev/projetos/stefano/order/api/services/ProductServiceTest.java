@@ -1,25 +1,39 @@
 package dev.projetos.stefano.order.api.services;
 
+import dev.projetos.stefano.order.api.cache.ProductCache;
 import dev.projetos.stefano.order.api.dtos.request.ProductRequest;
 import dev.projetos.stefano.order.api.dtos.request.ProductUpdateRequest;
+import dev.projetos.stefano.order.api.dtos.response.PageResponse;
 import dev.projetos.stefano.order.api.dtos.response.ProductResponse;
+import dev.projetos.stefano.order.api.dtos.response.ProductSuggestionResponse;
 import dev.projetos.stefano.order.api.entities.Category;
 import dev.projetos.stefano.order.api.entities.Product;
+import dev.projetos.stefano.order.api.entities.money.Money;
 import dev.projetos.stefano.order.api.mapper.ProductMapper;
-import dev.projetos.stefano.order.api.repositories.CategoryRepository;
+import dev.projetos.stefano.order.api.pagination.Cursor;
 import dev.projetos.stefano.order.api.repositories.ProductRepository;
 import dev.projetos.stefano.order.api.resources.exceptions.DatabaseException;
+import dev.projetos.stefano.order.api.search.ProductSearchIndex;
+import dev.projetos.stefano.order.api.search.ProductSuggester;
+import dev.projetos.stefano.order.api.services.events.ProductChangedEvent;
+import dev.projetos.stefano.order.api.services.exceptions.InvalidParameterException;
 import dev.projetos.stefano.order.api.services.exceptions.ResourceNotFoundException;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -34,10 +48,22 @@ class ProductServiceTest {
     private ProductMapper productMapper;
 
     @Mock
-    private CategoryRepository categoryRepository;
+    private CategoryService categoryService;
 
     @Mock
-    private CategoryService categoryService;
+    private InventoryService inventoryService;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductSuggester productSuggester;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ProductCache productCache = new ProductCache(false, 0, Duration.ZERO);
 
     @InjectMocks
     private ProductService productService;
@@ -45,8 +71,8 @@ class ProductServiceTest {
     @Test
     void findById_whenProductExists_shouldReturnProductResponse() {
         // Given
-        Product product = new Product(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", 90.5, "");
-        ProductResponse expectedResponse = new ProductResponse(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", 90.5, "", List.of());
+        Product product = new Product(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "");
+        ProductResponse expectedResponse = new ProductResponse(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "", List.of());
 
         when(productRepository.findById(1L)).thenReturn(Optional.of(product));
         when(productMapper.toResponse(product)).thenReturn(expectedResponse);
@@ -75,57 +101,232 @@ class ProductServiceTest {
     @Test
     void findAll_whenCategoriesExists_shouldReturnListOfProductResponse() {
         // Given
-        Product p1 = new Product(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", 90.5, "");
-        Product p2 = new Product(2L, "Smart TV", "Nulla eu imperdiet purus. Maecenas ante.", 2190.0, "");
-        Product p3 = new Product(3L, "Macbook Pro", "Nam eleifend maximus tortor, at mollis.", 1250.0, "");
+        Product p1 = new Product(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "");
+        Product p2 = new Product(2L, "Smart TV", "Nulla eu imperdiet purus. Maecenas ante.", Money.of("2190.0"), "");
+        Product p3 = new Product(3L, "Macbook Pro", "Nam eleifend maximus tortor, at mollis.", Money.of("1250.0"), "");
 
-        when(productRepository.findAll()).thenReturn(List.of(p1, p2, p3));
+        when(productRepository.findIdsAfter(0L, Limit.of(21))).thenReturn(List.of(1L, 2L, 3L));
+        when(productRepository.findByIdIn(any())).thenReturn(List.of(p1, p2, p3));
 
-        ProductResponse resp1 = new ProductResponse(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", 90.5, "", List.of());
-        ProductResponse resp2 = new ProductResponse(2L, "Smart TV", "Nulla eu imperdiet purus. Maecenas ante.", 2190.0, "", List.of());
-        ProductResponse resp3 = new ProductResponse(3L, "Macbook Pro", "Nam eleifend maximus tortor, at mollis.", 1250.0, "", List.of());
+        ProductResponse resp1 = new ProductResponse(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "", List.of());
+        ProductResponse resp2 = new ProductResponse(2L, "Smart TV", "Nulla eu imperdiet purus. Maecenas ante.", Money.of("2190.0"), "", List.of());
+        ProductResponse resp3 = new ProductResponse(3L, "Macbook Pro", "Nam eleifend maximus tortor, at mollis.", Money.of("1250.0"), "", List.of());
 
         when(productMapper.toResponse(p1)).thenReturn(resp1);
         when(productMapper.toResponse(p2)).thenReturn(resp2);
         when(productMapper.toResponse(p3)).thenReturn(resp3);
 
         // When
-        List<ProductResponse> responses = productService.findAll();
+        List<ProductResponse> responses = productService.findAll(null, null).content();
 
         // Then
         assertEquals(3, responses.size());
         assertEquals(resp1, responses.get(0));
         assertEquals(resp2, responses.get(1));
         assertEquals(resp3, responses.get(2));
-        verify(productRepository).findAll();
+        verify(productRepository).findIdsAfter(0L, Limit.of(21));
+        verify(productRepository).findByIdIn(any());
         verify(productMapper, times(3)).toResponse(any());
     }
 
+    @Test
+    void findAll_whenProductIsDeletedBetweenIdAndDetailQueries_shouldSkipItAndKeepCursor() {
+        // Given
+        Product p1 = new Product(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "");
+        ProductResponse resp1 = new ProductResponse(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "", List.of());
+
+        when(productRepository.findIdsAfter(0L, Limit.of(3))).thenReturn(List.of(1L, 2L, 3L));
+        when(productRepository.findByIdIn(any())).thenReturn(List.of(p1));
+        when(productMapper.toResponse(p1)).thenReturn(resp1);
+
+        // When
+        PageResponse<ProductResponse> page = productService.findAll(null, 2);
+
+        // Then
+        assertEquals(List.of(resp1), page.content());
+        assertEquals(2L, Cursor.decodeId(page.cursor()));
+    }
+
     @Test
     void findAll_whenNoCategoriesExists_shouldReturnEmptyList() {
         // Given
-        when(productRepository.findAll()).thenReturn(List.of());
+        when(productRepository.findIdsAfter(0L, Limit.of(21))).thenReturn(List.of());
 
         // When
-        List<ProductResponse> responses = productService.findAll();
+        List<ProductResponse> responses = productService.findAll(null, null).content();
 
         // Then
         assertTrue(responses.isEmpty());
-        verify(productRepository).findAll();
+        verify(productRepository).findIdsAfter(0L, Limit.of(21));
+        verify(productRepository, never()).findByIdIn(any());
         verify(productMapper, never()).toResponse(any());
     }
 
+    @Test
+    void findByCategory_whenMoreProductsThanLimit_shouldReturnPageWithCursor() {
+        // Given
+        Product p1 = new Product(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "");
+        Product p3 = new Product(3L, "Macbook Pro", "Nam eleifend maximus tortor, at mollis.", Money.of("1250.0"), "");
+        ProductResponse resp1 = new ProductResponse(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "", List.of());
+        ProductResponse resp3 = new ProductResponse(3L, "Macbook Pro", "Nam eleifend maximus tortor, at mollis.", Money.of("1250.0"), "", List.of());
+
+        when(productRepository.findIdsByCategoryAfter(2L, 0L, 3)).thenReturn(List.of(1L, 3L, 5L));
+        when(productRepository.findByIdIn(any())).thenReturn(List.of(p1, p3));
+        when(productMapper.toResponse(p1)).thenReturn(resp1);
+        when(productMapper.toResponse(p3)).thenReturn(resp3);
+
+        // When
+        PageResponse<ProductResponse> page = productService.findByCategory(2L, null, 2);
+
+        // Then
+        assertEquals(List.of(resp1, resp3), page.content());
+        assertEquals(3L, Cursor.decodeId(page.cursor()));
+        verify(categoryService).findById(2L);
+        verify(productRepository).findByIdIn(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 3L))));
+    }
+
+    @Test
+    void findByCategory_whenCategoryNotFound_shouldThrowResourceNotFoundException() {
+        // Given
+        when(categoryService.findById(9L)).thenThrow(new ResourceNotFoundException(9L));
+
+        // When/Then
+        assertThrows(ResourceNotFoundException.class, () -> productService.findByCategory(9L, null, null));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void findById_whenCacheIsEnabled_shouldHitDatabaseOnlyOnce() {
+        // Given
+        ProductCache enabledCache = new ProductCache(true, 100, Duration.ofMinutes(1));
+        ProductService cachedService = new ProductService(productRepository, categoryService, productMapper, enabledCache, inventoryService, productSearchIndex, productSuggester, eventPublisher);
+
+        Product product = new Product(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "");
+        ProductResponse expectedResponse = new ProductResponse(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "", List.of());
+
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productMapper.toResponse(product)).thenReturn(expectedResponse);
+
+        // When
+        cachedService.findById(1L);
+        ProductResponse result = cachedService.findById(1L);
+
+        // Then
+        assertEquals(expectedResponse, result);
+        assertEquals(1, enabledCache.stats().hitCount());
+        verify(productRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void findById_afterProductChanged_shouldReloadFromDatabase() {
+        // Given
+        ProductCache enabledCache = new ProductCache(true, 100, Duration.ofMinutes(1));
+        ProductService cachedService = new ProductService(productRepository, categoryService, productMapper, enabledCache, inventoryService, productSearchIndex, productSuggester, eventPublisher);
+
+        Product product = new Product(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "");
+
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productMapper.toResponse(product)).thenReturn(new ProductResponse(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "", List.of()));
+
+        // When
+        cachedService.findById(1L);
+        enabledCache.onProductChanged(new ProductChangedEvent(1L));
+        cachedService.findById(1L);
+
+        // Then
+        verify(productRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void findById_whenCachedVersionIsOlderThanRequested_shouldReloadFromDatabase() {
+        // Given
+        ProductCache enabledCache = new ProductCache(true, 100, Duration.ofMinutes(1));
+        ProductService cachedService = new ProductService(productRepository, categoryService, productMapper, enabledCache, inventoryService, productSearchIndex, productSuggester, eventPublisher);
+
+        Product product = new Product(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "");
+        ProductResponse stale = new ProductResponse(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "", List.of(), 0L);
+        ProductResponse current = new ProductResponse(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("95.0"), "", List.of(), 1L);
+
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productMapper.toResponse(product)).thenReturn(stale, current);
+        cachedService.findById(1L);
+
+        // When
+        ProductResponse result = cachedService.findById(1L, 1L);
+
+        // Then
+        assertEquals(current, result);
+        verify(productRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void search_whenMoreMatchesThanLimit_shouldReturnCursorToNextOffset() {
+        // Given
+        ProductResponse tv = new ProductResponse(2L, "Smart TV", "Nulla eu imperdiet purus. Maecenas ante.", Money.of("2190.0"), "", List.of());
+        ProductResponse book = new ProductResponse(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "", List.of());
+        ProductResponse macbook = new ProductResponse(3L, "Macbook Pro", "Nam eleifend maximus tortor, at mollis.", Money.of("1250.0"), "", List.of());
+
+        when(productSearchIndex.search("pro", 2, 3)).thenReturn(List.of(tv, book, macbook));
+
+        // When
+        PageResponse<ProductResponse> page = productService.search("pro", Cursor.encode(2), 2);
+
+        // Then
+        assertEquals(List.of(tv, book), page.content());
+        assertEquals(4, Cursor.decodeOffset(page.cursor()));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void search_whenCursorOffsetIsNegativeOrTooDeep_shouldThrowInvalidParameterException() {
+        // When/Then
+        assertThrows(InvalidParameterException.class, () -> productService.search("pro", Cursor.encode(-2), 2));
+        assertThrows(InvalidParameterException.class, () -> productService.search("pro", Cursor.encode(Cursor.MAX_OFFSET + 1), 2));
+        verifyNoInteractions(productSearchIndex);
+    }
+
+    @Test
+    void search_whenNextPageWouldPassMaxOffset_shouldNotReturnCursor() {
+        // Given
+        ProductResponse tv = new ProductResponse(2L, "Smart TV", "Nulla eu imperdiet purus. Maecenas ante.", Money.of("2190.0"), "", List.of());
+        ProductResponse book = new ProductResponse(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "", List.of());
+
+        when(productSearchIndex.search("pro", Cursor.MAX_OFFSET - 1, 2)).thenReturn(List.of(tv, book));
+
+        // When
+        PageResponse<ProductResponse> page = productService.search("pro", Cursor.encode(Cursor.MAX_OFFSET - 1), 2);
+
+        // Then
+        assertEquals(List.of(tv, book), page.content());
+        assertNull(page.cursor());
+    }
+
+    @Test
+    void suggest_whenLimitIsAboveMaximum_shouldCapIt() {
+        // Given
+        List<ProductSuggestionResponse> suggestions = List.of(new ProductSuggestionResponse(2L, "Smart TV"));
+
+        when(productSuggester.suggest("sm", 20)).thenReturn(suggestions);
+
+        // When
+        List<ProductSuggestionResponse> result = productService.suggest("sm", 500);
+
+        // Then
+        assertEquals(suggestions, result);
+        verifyNoInteractions(productRepository);
+    }
+
     @Test
     void insert_whenValidRequest_shouldSaveAndReturnProductResponse() {
         // Given
-        Product savedProduct = new Product(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", 90.5, "");
-        ProductRequest request = new ProductRequest("The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", 90.5, "", List.of(2L));
-        ProductResponse response = new ProductResponse(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", 90.5, "", List.of());
-        Product productWithoutId = new Product(null, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", 90.5, "");
+        Product savedProduct = new Product(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "");
+        ProductRequest request = new ProductRequest("The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", new BigDecimal("90.5"), "", List.of(2L), 10);
+        ProductResponse response = new ProductResponse(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "", List.of());
+        Product productWithoutId = new Product(null, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "");
         Category cat = new Category(2L, "Books");
 
         when(productMapper.toEntity(request)).thenReturn(productWithoutId);
-        when(categoryRepository.findAllById(request.categoriesId())).thenReturn(List.of(cat));
+        when(categoryService.findEntitiesById(request.categoriesId())).thenReturn(Set.of(cat));
         when(productRepository.save(productWithoutId)).thenReturn(savedProduct);
         when(productMapper.toResponse(savedProduct)).thenReturn(response);
 
@@ -135,7 +336,7 @@ class ProductServiceTest {
         // Then
         assertEquals(result, response);
         verify(productMapper).toEntity(request);
-        verify(categoryRepository).findAllById(request.categoriesId());
+        verify(categoryService).findEntitiesById(request.categoriesId());
         verify(productRepository, times(1)).save(productWithoutId);
         verify(productMapper).toResponse(savedProduct);
     }
@@ -143,16 +344,16 @@ class ProductServiceTest {
     @Test
     void insert_whenValidRequest_shouldThrowResourceNotFoundException() {
         // Given
-        ProductRequest request = new ProductRequest("The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", 90.5, "", List.of(2L));
-        Product productWithoutId = new Product(null, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", 90.5, "");
+        ProductRequest request = new ProductRequest("The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", new BigDecimal("90.5"), "", List.of(2L), 10);
+        Product productWithoutId = new Product(null, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "");
 
         when(productMapper.toEntity(request)).thenReturn(productWithoutId);
-        when(categoryRepository.findAllById(request.categoriesId())).thenReturn(List.of());
+        when(categoryService.findEntitiesById(request.categoriesId())).thenThrow(new ResourceNotFoundException("One or more categories not found"));
 
         // When/Then
         assertThrows(ResourceNotFoundException.class, () -> productService.insert(request));
         verify(productMapper).toEntity(request);
-        verify(categoryRepository).findAllById(request.categoriesId());
+        verify(categoryService).findEntitiesById(request.categoriesId());
         verify(productRepository, never()).save(any());
         verify(productMapper, never()).toResponse(any());
     }
@@ -172,6 +373,7 @@ class ProductServiceTest {
         verify(productRepository).existsById(prodId);
         verify(productRepository).deleteById(prodId);
         verify(productRepository).flush();
+        verify(eventPublisher).publishEvent(new ProductChangedEvent(prodId));
     }
 
     @Test
@@ -209,17 +411,17 @@ class ProductServiceTest {
     void update_whenProductExists_shouldUpdateAndReturnUserResponse() {
         // Given
         Long prodId = 1L;
-        ProductUpdateRequest request = new ProductUpdateRequest("Harry Potter and The Philosopher's Stone", "Lorem ipsum dolor sit amet, consectetur.", 112.5, "", List.of(2L));
+        ProductUpdateRequest request = new ProductUpdateRequest("Harry Potter and The Philosopher's Stone", "Lorem ipsum dolor sit amet, consectetur.", new BigDecimal("112.5"), "", List.of(2L), null);
 
-        Product existingProd = new Product(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", 90.5, "");
-        Product updatedProd = new Product(1L, request.name(), "Lorem ipsum dolor sit amet, consectetur.", request.price(), "");
+        Product existingProd = new Product(1L, "The Lord of the Rings", "Lorem ipsum dolor sit amet, consectetur.", Money.of("90.5"), "");
+        Product updatedProd = new Product(1L, request.name(), "Lorem ipsum dolor sit amet, consectetur.", Money.of(request.price()), "");
         ProductResponse resp = new ProductResponse(1L, updatedProd.getName(), "Lorem ipsum dolor sit amet, consectetur.", updatedProd.getPrice(), "", List.of());
 
         Category cat = new Category(2L, "Books");
 
         when(productRepository.getReferenceById(prodId)).thenReturn(existingProd);
         when(productMapper.toResponse(updatedProd)).thenReturn(resp);
-        when(categoryService.findEntityById(2L)).thenReturn(cat);
+        when(categoryService.findEntitiesById(List.of(2L))).thenReturn(Set.of(cat));
 
         // When
         ProductResponse result = productService.update(prodId, request);
@@ -235,7 +437,7 @@ class ProductServiceTest {
         // Given
         Long prodId = 999L;
 
-        ProductUpdateRequest request = new ProductUpdateRequest("Harry Potter and The Philosopher's Stone", "Lorem ipsum dolor sit amet, consectetur.", 112.5, "", List.of(2L));
+        ProductUpdateRequest request = new ProductUpdateRequest("Harry Potter and The Philosopher's Stone", "Lorem ipsum dolor sit amet, consectetur.", new BigDecimal("112.5"), "", List.of(2L), null);
 
         when(productRepository.getReferenceById(prodId)).thenThrow(EntityNotFoundException.class);
 
@@ -0,0 +1,87 @@
+package dev.projetos.stefano.order.api.services;
+
+import dev.projetos.stefano.order.api.dtos.request.OrderItemRequest;
+import dev.projetos.stefano.order.api.dtos.request.OrderRequest;
+import dev.projetos.stefano.order.api.dtos.response.OrderResponse;
+import dev.projetos.stefano.order.api.dtos.response.SalesEntryResponse;
+import dev.projetos.stefano.order.api.entities.Category;
+import dev.projetos.stefano.order.api.entities.Product;
+import dev.projetos.stefano.order.api.entities.User;
+import dev.projetos.stefano.order.api.entities.enums.OrderStatus;
+import dev.projetos.stefano.order.api.entities.money.Money;
+import dev.projetos.stefano.order.api.repositories.CategoryRepository;
+import dev.projetos.stefano.order.api.repositories.ProductRepository;
+import dev.projetos.stefano.order.api.repositories.UserRepository;
+import dev.projetos.stefano.order.api.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SalesReportServiceTest {
+
+    @Autowired
+    private SalesReportService salesReportService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void findSales_shouldMergePendingDeltasAndMatchFlushAndRebuild() {
+        // Given
+        User client = TestData.client(userRepository);
+        Category category = categoryRepository.save(new Category(null, "Reports " + UUID.randomUUID()));
+        Product product = TestData.product(100);
+        product.getCategories().add(category);
+        product = productRepository.save(product);
+
+        orderService.insert(new OrderRequest(client.getId(), List.of(new OrderItemRequest(product.getId(), 2))));
+        OrderResponse canceled = orderService.insert(new OrderRequest(client.getId(), List.of(new OrderItemRequest(product.getId(), 3))));
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        // When
+        SalesEntryResponse placed = entry(today, "product", product.getId());
+        orderService.updateStatus(canceled.id(), OrderStatus.CANCELED);
+        SalesEntryResponse afterCancel = entry(today, "product", product.getId());
+        SalesEntryResponse byCategory = entry(today, "category", category.getId());
+        salesReportService.flush();
+        SalesEntryResponse afterFlush = entry(today, "product", product.getId());
+        salesReportService.rebuild();
+        SalesEntryResponse afterRebuild = entry(today, "product", product.getId());
+
+        // Then
+        assertEquals(5, placed.units());
+        assertEquals(Money.of("10950.0"), placed.revenue());
+        assertEquals(2, afterCancel.units());
+        assertEquals(Money.of("4380.0"), afterCancel.revenue());
+        assertEquals(2, byCategory.units());
+        assertEquals(afterCancel.revenue(), byCategory.revenue());
+        assertEquals(afterCancel, afterFlush);
+        assertEquals(afterCancel, afterRebuild);
+    }
+
+    private SalesEntryResponse entry(LocalDate day, String groupBy, Long id) {
+        return salesReportService.findSales(day.minusDays(1), day.plusDays(1), groupBy)
+                .entries()
+                .stream()
+                .filter(entry -> entry.group().equals(id.toString()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
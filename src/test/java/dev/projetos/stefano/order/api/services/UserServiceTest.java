@@ -2,11 +2,15 @@ package dev.projetos.stefano.order.api.services;
 
 import dev.projetos.stefano.order.api.dtos.request.UserRequest;
 import dev.projetos.stefano.order.api.dtos.request.UserUpdateRequest;
+import dev.projetos.stefano.order.api.dtos.response.PageResponse;
 import dev.projetos.stefano.order.api.dtos.response.UserResponse;
 import dev.projetos.stefano.order.api.entities.User;
 import dev.projetos.stefano.order.api.mapper.UserMapper;
+import dev.projetos.stefano.order.api.pagination.Cursor;
 import dev.projetos.stefano.order.api.repositories.UserRepository;
 import dev.projetos.stefano.order.api.resources.exceptions.DatabaseException;
+import dev.projetos.stefano.order.api.services.events.UserChangedEvent;
+import dev.projetos.stefano.order.api.services.exceptions.InvalidParameterException;
 import dev.projetos.stefano.order.api.services.exceptions.ResourceNotFoundException;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
@@ -14,7 +18,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +38,9 @@ class UserServiceTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -66,6 +75,16 @@ class UserServiceTest {
         verify(userMapper, never()).toResponse(any());
     }
 
+    @Test
+    void findVersionById_whenUserNotFound_shouldThrowResourceNotFoundException() {
+        // Given
+        when(userRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThrows(ResourceNotFoundException.class, () -> userService.findVersionById(1L));
+        verify(userRepository, never()).findById(any());
+    }
+
     @Test
     void findAll_whenUsersExist_shouldReturnListOfUserResponses() {
         // Given
@@ -79,34 +98,60 @@ class UserServiceTest {
         UserResponse r2 = new UserResponse(2L, "Alex Green", "alex@gmail.com", "977777777");
         UserResponse r3 = new UserResponse(3L, "Bob Grey", "bob@gmail.com", "955555555");
 
-        when(userRepository.findAll()).thenReturn(users);
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(21))).thenReturn(users);
         when(userMapper.toResponse(u1)).thenReturn(r1);
         when(userMapper.toResponse(u2)).thenReturn(r2);
         when(userMapper.toResponse(u3)).thenReturn(r3);
 
         // When
-        List<UserResponse> response = userService.findAll();
+        List<UserResponse> response = userService.findAll(null, null).content();
 
         // Then
         assertEquals(3, response.size());
-        verify(userRepository).findAll();
+        verify(userRepository).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(21));
         verify(userMapper, times(3)).toResponse(any());
     }
 
     @Test
     void findAll_whenNoUsersExist_shouldReturnEmptyList() {
         // Given
-        when(userRepository.findAll()).thenReturn(List.of());
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(21))).thenReturn(List.of());
 
         // When
-        List<UserResponse> users = userService.findAll();
+        List<UserResponse> users = userService.findAll(null, null).content();
 
         // Then
         assertTrue(users.isEmpty());
-        verify(userRepository).findAll();
+        verify(userRepository).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(21));
         verify(userMapper, never()).toResponse(any());
     }
 
+    @Test
+    void findAll_whenMoreUsersThanLimit_shouldReturnCursorForNextPage() {
+        // Given
+        User u1 = new User(1L, "Maria Brown", "maria@gmail.com", "988888888", "123456");
+        User u2 = new User(2L, "Alex Green", "alex@gmail.com", "977777777", "123456");
+        User u3 = new User(3L, "Bob Grey", "bob@gmail.com", "955555555", "abcdef");
+
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3))).thenReturn(List.of(u1, u2, u3));
+        when(userMapper.toResponse(any())).thenReturn(new UserResponse(1L, "Maria Brown", "maria@gmail.com", "988888888"));
+
+        // When
+        PageResponse<UserResponse> page = userService.findAll(null, 2);
+
+        // Then
+        assertEquals(2, page.content().size());
+        assertEquals(2L, Cursor.decodeId(page.cursor()));
+        verify(userMapper, times(2)).toResponse(any());
+    }
+
+    @Test
+    void findAll_whenCursorIsInvalid_shouldThrowInvalidParameterException() {
+        // When/Then
+        assertThrows(InvalidParameterException.class, () -> userService.findAll("not a cursor", null));
+        verify(userRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
     @Test
     void insert_whenValidRequest_shouldSaveAndReturnUserResponse() {
         // Given
@@ -127,6 +172,7 @@ class UserServiceTest {
         verify(userMapper).toEntity(request);
         verify(userRepository).save(userWithoutId);
         verify(userMapper).toResponse(savedUser);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(1L));
     }
 
     @Test
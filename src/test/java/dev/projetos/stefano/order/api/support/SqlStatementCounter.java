@@ -0,0 +1,40 @@
+package dev.projetos.stefano.order.api.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class SqlStatementCounter implements StatementInspector {
+
+    public static final String PROPERTY = "spring.jpa.properties.hibernate.session_factory.statement_inspector=dev.projetos.stefano.order.api.support.SqlStatementCounter";
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void reset() {
+        STATEMENTS.clear();
+    }
+
+    public static long count(String verb) {
+        return STATEMENTS.stream()
+                .map(String::stripLeading)
+                .filter(sql -> sql.regionMatches(true, 0, verb, 0, verb.length()))
+                .filter(sql -> !isSequenceCall(sql))
+                .count();
+    }
+
+    private static boolean isSequenceCall(String sql) {
+        String lower = sql.toLowerCase();
+        return lower.contains("next value for") || lower.contains("nextval(");
+    }
+
+    public static long total() {
+        return STATEMENTS.size();
+    }
+}
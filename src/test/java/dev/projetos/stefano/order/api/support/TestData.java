@@ -0,0 +1,40 @@
+package dev.projetos.stefano.order.api.support;
+
+import dev.projetos.stefano.order.api.entities.Product;
+import dev.projetos.stefano.order.api.entities.User;
+import dev.projetos.stefano.order.api.entities.money.Money;
+import dev.projetos.stefano.order.api.repositories.ProductRepository;
+import dev.projetos.stefano.order.api.repositories.UserRepository;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Clients and products for tests that run against the database. Each client gets a fresh e-mail, so tests sharing
+ * one application context never collide on the unique constraint.
+ */
+public final class TestData {
+
+    private TestData() {
+    }
+
+    public static User client(UserRepository userRepository) {
+        return userRepository.save(new User(null, "Maria Brown", UUID.randomUUID() + "@gmail.com", "988888888", "123456"));
+    }
+
+    public static Product product(int stock) {
+        return new Product(null, "Smart TV", "Nulla eu imperdiet purus. Maecenas ante.", Money.of("2190.0"), "", stock);
+    }
+
+    public static Product product(ProductRepository productRepository, int stock) {
+        return productRepository.save(product(stock));
+    }
+
+    // distinct names and prices, so each product is a separate order line
+    public static List<Product> products(ProductRepository productRepository, int count) {
+        return productRepository.saveAll(IntStream.range(0, count)
+                .mapToObj(i -> new Product(null, "Product " + i, "Lorem ipsum dolor sit amet, consectetur.", Money.ofMinorUnits(1000 + i * 100L), "", 1_000_000))
+                .toList());
+    }
+}